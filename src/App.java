@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.util.Scanner;
 
 /**
@@ -12,6 +13,9 @@ import java.util.Scanner;
  * - Comments: Documentation throughout the code
  */
 public class App {
+    // Variables - Inventory file and the journal of changes made since it was loaded
+    private static final String CSV_PATH = "csv/MotorPH Inventory Data - March 2023 Inventory Data.csv";
+    private static final String JOURNAL_PATH = CSV_PATH + ".journal";
     
     /**
      * Display main menu
@@ -23,7 +27,7 @@ public class App {
         System.out.println("    Data Structures Implementation Demo");
         System.out.println("=".repeat(60));
         System.out.println("\nSelect Data Structure Implementation:");
-        System.out.println("1. Array (Fixed-size array)");
+        System.out.println("1. Array (Segmented array)");
         System.out.println("2. Linked List (Dynamic linked nodes)");
         System.out.println("3. Stack (LIFO - Last In First Out)");
         System.out.println("4. Queue (FIFO - First In First Out)");
@@ -32,6 +36,35 @@ public class App {
         System.out.print("\nEnter your choice: ");
     }
     
+    /**
+     * Replay earlier changes onto the loaded inventory and journal new ones
+     * Input: Inventory freshly loaded from CSV_PATH
+     * Output: Open journal, or null if it could not be opened
+     */
+    private static InventoryJournal startJournal(InventoryStore store) {
+        try {
+            return InventoryJournal.open(JOURNAL_PATH, CSV_PATH, store);
+        } catch (IOException e) {
+            System.out.println("Changes will not be saved - journal unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Make every journaled change durable and close the journal
+     * Input: Journal from startJournal (may be null)
+     */
+    private static void stopJournal(InventoryJournal journal) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Error saving journal: " + e.getMessage());
+        }
+    }
+    
     /**
      * Main method - Entry point of the application
      * Control Structures: do-while loop, switch-case
@@ -54,40 +87,50 @@ public class App {
                     // Array Implementation
                     System.out.println(">>> Starting Array-Based Inventory System <<<\n");
                     ArrayInventory arrayInv = new ArrayInventory();
-                    arrayInv.loadInventoryFromCSV("csv/MotorPH Inventory Data - March 2023 Inventory Data.csv");
+                    arrayInv.loadInventoryFromCSV(CSV_PATH);
+                    InventoryJournal arrayJournal = startJournal(arrayInv);
                     arrayInv.run();
+                    stopJournal(arrayJournal);
                     break;
                     
                 case 2:
                     // Linked List Implementation
                     System.out.println(">>> Starting Linked List-Based Inventory System <<<\n");
                     LinkedListInventory linkedListInv = new LinkedListInventory();
-                    linkedListInv.loadInventoryFromCSV("csv/MotorPH Inventory Data - March 2023 Inventory Data.csv");
+                    linkedListInv.loadInventoryFromCSV(CSV_PATH);
+                    InventoryJournal linkedListJournal = startJournal(linkedListInv);
                     linkedListInv.run();
+                    stopJournal(linkedListJournal);
                     break;
                     
                 case 3:
                     // Stack Implementation
                     System.out.println(">>> Starting Stack-Based Inventory System (LIFO) <<<\n");
                     StackInventory stackInv = new StackInventory();
-                    stackInv.loadInventoryFromCSV("csv/MotorPH Inventory Data - March 2023 Inventory Data.csv");
+                    stackInv.loadInventoryFromCSV(CSV_PATH);
+                    InventoryJournal stackJournal = startJournal(stackInv);
                     stackInv.run();
+                    stopJournal(stackJournal);
                     break;
                     
                 case 4:
                     // Queue Implementation
                     System.out.println(">>> Starting Queue-Based Inventory System (FIFO) <<<\n");
                     QueueInventory queueInv = new QueueInventory();
-                    queueInv.loadInventoryFromCSV("csv/MotorPH Inventory Data - March 2023 Inventory Data.csv");
+                    queueInv.loadInventoryFromCSV(CSV_PATH);
+                    InventoryJournal queueJournal = startJournal(queueInv);
                     queueInv.run();
+                    stopJournal(queueJournal);
                     break;
                     
                 case 5:
                     // ArrayList Implementation
                     System.out.println(">>> Starting ArrayList-Based Inventory System <<<\n");
                     ArrayListInventory arrayListInv = new ArrayListInventory();
-                    arrayListInv.loadInventoryFromCSV("csv/MotorPH Inventory Data - March 2023 Inventory Data.csv");
+                    arrayListInv.loadInventoryFromCSV(CSV_PATH);
+                    InventoryJournal arrayListJournal = startJournal(arrayListInv);
                     arrayListInv.run();
+                    stopJournal(arrayListJournal);
                     break;
                     
                 case 6:
@@ -142,10 +185,10 @@ public class App {
  *    - Nested loops: Sorting algorithms (bubble sort), filtering operations
  * 
  * 4. VARIABLES (by Data Structure):
- *    Array: inventoryArray[], itemCount, MAX_SIZE, choice, index
+ *    Array: inventoryArray (SegmentedArray), choice, index
  *    Linked List: head, tail, current, previous, size, Node objects
- *    Stack: inventoryStack, tempStack, soldCount, position
- *    Queue: inventoryQueue, tempQueue, processedCount
+ *    Stack: inventoryStack (InventoryStack), soldCount, position
+ *    Queue: inventoryQueue, processedCount
  *    ArrayList: inventoryList, results, brandCounts, filtered
  *    Common: scanner, choice, engineNum, brandName, status, item
  * 
@@ -1,69 +1,65 @@
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
- * ArrayInventory - Manages inventory using a fixed-size Array
- * Demonstrates: Array data structure, linear search, and basic operations
+ * ArrayInventory - Manages inventory using a segmented (chunked) Array
+ * Demonstrates: Array data structure, index-based access, and basic operations
  * 
- * KEY LIMITATIONS OF ARRAYS:
- * - FIXED SIZE: Must declare maximum capacity upfront (MAX_SIZE = 100)
- * - MANUAL TRACKING: Must maintain itemCount variable ourselves
- * - NO DYNAMIC OPS: Cannot easily add/remove items in middle
- * - SIZE CHECK: Must always verify array isn't full before adding
- * - SIMPLE: Best for static, predictable data sets
+ * WHY SEGMENTS INSTEAD OF ONE FIXED ARRAY:
+ * - A single InventoryItem[MAX_SIZE] array stops at its declared capacity
+ *   (it used to be 100, so larger CSV files were silently cut off)
+ * - Copying the whole array into a bigger one on every resize gets slow for
+ *   large inventories
+ * - SegmentedArray keeps items in fixed-size array chunks: appending is O(1),
+ *   indexed access is O(1), and a full chunk is never copied
+ * - Items are appended at the end; remove() closes the gap by shifting the
+ *   later items down (one block copy per chunk)
  */
-public class ArrayInventory {
-    // Variables - Fixed size array and item counter
-    private static final int MAX_SIZE = 100;  // LIMITATION: Hard-coded maximum capacity
-    private InventoryItem[] inventoryArray;   // FIXED-SIZE array
-    private int itemCount;                     // MANUAL TRACKING: Must increment ourselves
+public class ArrayInventory implements InventoryStore {
+    // Variables - Segmented array (grows one chunk at a time, no capacity limit)
+    private SegmentedArray<InventoryItem> inventoryArray;
+    private EngineNumberIndex<InventoryItem> engineIndex;  // Hash index for engine number lookups
+    private InventoryCounters counters;                    // Live counts by status, brand and label
+    private final JournalHook journal;                     // Change log for crash recovery (no-op until attached)
+    private InventoryRenderer renderer;                    // Buffered, paged table output
     private Scanner scanner;
     
     // Constructor
     public ArrayInventory() {
-        this.inventoryArray = new InventoryItem[MAX_SIZE];
-        this.itemCount = 0;
+        this.inventoryArray = new SegmentedArray<>();
+        this.engineIndex = new EngineNumberIndex<>();
+        this.counters = new InventoryCounters();
         this.scanner = new Scanner(System.in);
+        this.renderer = new InventoryRenderer(scanner);
+        this.journal = new JournalHook();
     }
     
     /**
      * Load inventory from CSV file
      * Input: CSV file path
      * Output: Number of items loaded
-     * Control Structures: while loop, if condition
+     * Control Structure: callback
      */
+    @Override
     public int loadInventoryFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            
-            // Skip first two header lines
-            br.readLine();
-            br.readLine();
-            
-            // Control Structure: While loop with ARRAY SIZE LIMITATION
-            // ARRAY LIMITATION: Must check if array is full (itemCount < MAX_SIZE)
-            while ((line = br.readLine()) != null && itemCount < MAX_SIZE) {
-                // Parse CSV line
-                String[] data = line.split(",");
-                
-                // Control Structure: If condition to validate data
-                if (data.length >= 5) {
-                    // Create new inventory item and add to array
-                    // ARRAY OPERATION: Manual index assignment - must use itemCount
-                    inventoryArray[itemCount] = new InventoryItem(
-                        data[0].trim(),  // dateEntered
-                        data[1].trim(),  // stockLabel
-                        data[2].trim(),  // brand
-                        data[3].trim(),  // engineNumber
-                        data[4].trim()   // status
-                    );
-                    itemCount++;  // MANUAL INCREMENT: Must track size ourselves
-                }
-            }
-            
+        try {
+            // Shared reader parses each record and hands it to this callback
+            InventorySnapshot.loadCached(filename, item -> {
+                // ARRAY OPERATION: Append at the next index - every row is kept
+                inventoryArray.add(item);
+                trackAdded(item);
+                return true;
+            });
+
             // Output: Display load confirmation
-            System.out.println("Loaded " + itemCount + " items from CSV file.");
-            return itemCount;
+            System.out.println("Loaded " + inventoryArray.size() + " items from CSV file.");
+            return inventoryArray.size();
             
         } catch (IOException e) {
             System.out.println("Error reading file: " + e.getMessage());
@@ -74,73 +70,251 @@ public class ArrayInventory {
     /**
      * Display all items in the array
      * Output: Formatted list of all inventory items
-     * Control Structure: for loop
+     * Control Structure: paged output (InventoryRenderer)
      */
     public void displayAllItems() {
         // Output: Print header
         System.out.println("\n=== Inventory Items (Array Implementation) ===");
-        System.out.println("Total Items: " + itemCount);
-        System.out.println(InventoryItem.getHeader());
-        System.out.println("=".repeat(80));
-        
-        // Control Structure: For loop to iterate through array
-        for (int i = 0; i < itemCount; i++) {
-            System.out.println((i + 1) + ". " + inventoryArray[i].toString());
-        }
+        System.out.println("Total Items: " + inventoryArray.size());
+        // Output: Rows go through one reusable buffer, a page at a time
+        renderer.printTable(inventoryArray);
     }
     
     /**
-     * Search for item by engine number using linear search
+     * Search for item by engine number using the hash index
      * Input: Engine number to search
      * Output: Found item or null
-     * Control Structure: for loop, if condition
      */
+    @Override
     public InventoryItem searchByEngineNumber(String engineNum) {
-        // Control Structure: Linear search through array
-        for (int i = 0; i < itemCount; i++) {
-            // Control Structure: If condition to check match
-            if (inventoryArray[i].getEngineNumber().equalsIgnoreCase(engineNum)) {
-                return inventoryArray[i];  // Return found item
-            }
-        }
-        return null;  // Not found
+        // O(1) average - no linear scan through the array
+        return engineIndex.get(engineNum);
+    }
+    
+    /**
+     * Get a sorted copy of the array contents (the array itself is unchanged)
+     * Input: Sort order
+     * Output: New list in sorted order
+     */
+    public ArrayList<InventoryItem> getSortedView(InventorySorter.SortOrder order) {
+        return InventorySorter.sortedView(inventoryArray, order);
     }
     
     /**
      * Count items by brand name
      * Input: Brand name
      * Output: Count of matching items
-     * Control Structure: for loop, if condition
      */
+    @Override
     public int countByBrand(String brandName) {
-        int count = 0;  // Variable: counter
-        
-        // Control Structure: Loop through array
-        for (int i = 0; i < itemCount; i++) {
-            // Control Structure: If condition to check brand
-            if (inventoryArray[i].getBrand().equalsIgnoreCase(brandName)) {
-                count++;  // Increment counter
-            }
-        }
-        return count;
+        // O(1) read of the live counter - no traversal
+        return counters.getBrandCount(brandName);
     }
     
     /**
      * Count items by status
      * Input: Status (On-hand or Sold)
      * Output: Count of matching items
-     * Control Structure: for loop, if condition
      */
+    @Override
     public int countByStatus(String status) {
-        int count = 0;
+        // O(1) read of the live counter - no traversal
+        return counters.getStatusCount(status);
+    }
+    
+    /**
+     * Append an item without printing (InventoryStore)
+     * Input: Item
+     * Output: true (the array has no capacity limit)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        inventoryArray.add(item);
+        trackAdded(item);
+        return true;
+    }
+    
+    /**
+     * Remove an item by engine number, shifting the later items down
+     * Input: Engine number
+     * Output: true if removed
+     * Control Structure: for loop (find the item's index)
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        InventoryItem target = engineIndex.get(engineNumber);
+        if (target == null) {
+            return false;
+        }
         
-        // Control Structure: Iterate through array
-        for (int i = 0; i < itemCount; i++) {
-            if (inventoryArray[i].getStatus().equalsIgnoreCase(status)) {
-                count++;
+        // Control Structure: Linear scan for the index of this exact item
+        for (int i = 0; i < inventoryArray.size(); i++) {
+            if (inventoryArray.get(i) == target) {
+                inventoryArray.remove(i);
+                trackRemoved(target);
+                return true;
             }
         }
-        return count;
+        return false;
+    }
+    
+    /**
+     * Remove many items at once (InventoryStore)
+     * One compaction pass over the array instead of one shift per item
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loops
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        // InventoryItem has no equals(), so the set holds these exact objects
+        Set<InventoryItem> targets = new LinkedHashSet<>();
+        for (String engineNumber : engineNumbers) {
+            InventoryItem item = engineIndex.get(engineNumber);
+            if (item != null) {
+                targets.add(item);
+            }
+        }
+        inventoryArray.removeIf(targets::contains);
+        for (InventoryItem item : targets) {
+            trackRemoved(item);
+        }
+        return targets.size();
+    }
+    
+    /**
+     * Change an item's status without printing (InventoryStore)
+     * Input: Engine number, new status
+     * Output: true if the item exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeStatus(item, newStatus);
+        return true;
+    }
+    
+    /**
+     * Change the stock label of an item by engine number (InventoryStore)
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeLabel(item, newLabel);
+        return true;
+    }
+    
+    /**
+     * Items of a brand, in array order
+     * Input: Brand name
+     * Output: Matching items
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        List<InventoryItem> result = new ArrayList<>();
+        int brandId = ValueIds.find(brand);  // Folded once per query, not once per item
+        for (InventoryItem item : inventoryArray) {
+            if (item.getBrandId() == brandId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Items with a status, in array order
+     * Input: Status
+     * Output: Matching items
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        List<InventoryItem> result = new ArrayList<>();
+        int statusId = ValueIds.find(status);  // Folded once per query, not once per item
+        for (InventoryItem item : inventoryArray) {
+            if (item.getStatusId() == statusId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public int size() {
+        return inventoryArray.size();
+    }
+    
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return inventoryArray.iterator();
+    }
+    
+    /**
+     * Get the live counters (counts by status, brand and stock label)
+     * Output: Counters kept up to date by every add, remove and status change
+     */
+    public InventoryCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is added
+     * Input: Added item
+     */
+    private void trackAdded(InventoryItem item) {
+        engineIndex.put(item.getEngineNumber(), item);
+        counters.itemAdded(item);
+        journal.recordAdd(item);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is removed
+     * Input: Removed item
+     */
+    private void trackRemoved(InventoryItem item) {
+        engineIndex.remove(item.getEngineNumber(), item);
+        counters.itemRemoved(item);
+        journal.recordRemove(item.getEngineNumber());
+    }
+    
+    /**
+     * Change an item's status and keep the counters in sync
+     * Input: Item, new status
+     */
+    private void changeStatus(InventoryItem item, String newStatus) {
+        String oldStatus = item.getStatus();
+        item.setStatus(newStatus);
+        counters.statusChanged(oldStatus, newStatus);
+        journal.recordStatus(item.getEngineNumber(), newStatus);
+    }
+    
+    /**
+     * Change an item's stock label and keep the counters in sync
+     * Input: Item, new label
+     */
+    private void changeLabel(InventoryItem item, String newLabel) {
+        String oldLabel = item.getStockLabel();
+        item.setStockLabel(newLabel);
+        counters.labelChanged(oldLabel, newLabel);
+        journal.recordLabel(item.getEngineNumber(), newLabel);
     }
     
     /**
@@ -155,32 +329,28 @@ public class ArrayInventory {
         System.out.println("3. Count by Brand");
         System.out.println("4. Count by Status");
         System.out.println("5. Display Statistics");
-        System.out.println("6. Exit");
+        System.out.println("6. Display Sorted");
+        System.out.println("7. Exit");
         System.out.print("Enter choice: ");
     }
     
     /**
      * Display inventory statistics
      * Output: Statistics about inventory
-     * Control Structure: for loop
+     * Control Structure: for-each loop
      */
     public void displayStatistics() {
         System.out.println("\n=== Inventory Statistics ===");
-        System.out.println("Total Items: " + itemCount);
-        System.out.println("On-hand Items: " + countByStatus("On-hand"));
-        System.out.println("Sold Items: " + countByStatus("Sold"));
+        System.out.println("Total Items: " + counters.getTotal());
+        System.out.println("On-hand Items: " + counters.getStatusCount("On-hand"));
+        System.out.println("Sold Items: " + counters.getStatusCount("Sold"));
         
-        // Count unique brands
+        // Brands are discovered from the data (no hard-coded list)
         System.out.println("\nBrand Distribution:");
-        String[] brands = {"Honda", "Yamaha", "Suzuki", "Kawasaki", "Kymco"};
         
-        // Control Structure: For loop through brands
-        for (String brand : brands) {
-            int count = countByBrand(brand);
-            // Control Structure: If condition to display only if count > 0
-            if (count > 0) {
-                System.out.println("  " + brand + ": " + count);
-            }
+        // Control Structure: For-each loop through the brands present
+        for (String brand : counters.getBrands()) {
+            System.out.println("  " + brand + ": " + counters.getBrandCount(brand));
         }
     }
     
@@ -242,6 +412,19 @@ public class ArrayInventory {
                     break;
                     
                 case 6:
+                    // Display a sorted copy - the array keeps its order
+                    System.out.print("Sort by (1 = Brand, 2 = Date): ");
+                    int sortChoice = scanner.nextInt();
+                    scanner.nextLine();
+                    InventorySorter.SortOrder order = (sortChoice == 2)
+                        ? InventorySorter.SortOrder.DATE
+                        : InventorySorter.SortOrder.BRAND_DATE_ENGINE;
+                    
+                    System.out.println("\n=== Sorted by " + (sortChoice == 2 ? "Date" : "Brand") + " ===");
+                    renderer.printTable(getSortedView(order));
+                    break;
+                    
+                case 7:
                     // Exit
                     System.out.println("Exiting Array Inventory System...");
                     break;
@@ -249,7 +432,7 @@ public class ArrayInventory {
                 default:
                     System.out.println("Invalid choice! Please try again.");
             }
-        } while (choice != 6);  // Control Structure: Continue until exit
+        } while (choice != 7);  // Control Structure: Continue until exit
     }
     
     /**
@@ -1,8 +1,11 @@
 import java.io.*;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
  * ArrayListInventory - Manages inventory using ArrayList (dynamic array)
@@ -15,9 +18,14 @@ import java.util.Scanner;
  * - FLEXIBLE: Can insert/delete items at any position easily
  * - CONVENIENT: Many built-in methods for common operations
  */
-public class ArrayListInventory {
+public class ArrayListInventory implements InventoryStore {
     // Variables - ArrayList for inventory and scanner for input
     private ArrayList<InventoryItem> inventoryList;  // DYNAMIC: Grows automatically, no size limit
+    private EngineNumberIndex<InventoryItem> engineIndex;  // Hash index for engine number lookups
+    private InventoryCounters counters;                    // Live counts by status, brand and label
+    private final JournalHook journal;                     // Change log for crash recovery (no-op until attached)
+    private AttributeIndex attributeIndex;                 // Brand/status/label -> item sets
+    private InventoryRenderer renderer;                    // Buffered, paged table output
     private Scanner scanner;
     // NO itemCount variable needed - ArrayList has built-in .size() method
     // NO MAX_SIZE constant needed - unlimited capacity
@@ -25,45 +33,31 @@ public class ArrayListInventory {
     // Constructor
     public ArrayListInventory() {
         this.inventoryList = new ArrayList<>();
+        this.engineIndex = new EngineNumberIndex<>();
+        this.counters = new InventoryCounters();
+        this.attributeIndex = new AttributeIndex();
         this.scanner = new Scanner(System.in);
+        this.renderer = new InventoryRenderer(scanner);
+        this.journal = new JournalHook();
     }
     
     /**
      * Load inventory from CSV file
      * Input: CSV file path
      * Output: Number of items loaded
-     * Control Structure: while loop, if condition
+     * Control Structure: callback
      */
+    @Override
     public int loadInventoryFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            
-            // Skip first two header lines
-            br.readLine();
-            br.readLine();
-            
-            // Control Structure: While loop - NO SIZE LIMIT CHECK NEEDED
+        try {
             // ARRAYLIST ADVANTAGE: No need to check capacity, grows automatically
-            while ((line = br.readLine()) != null) {  // Notice: No size check like in Array!
-                // Parse CSV line
-                String[] data = line.split(",");
-                
-                // Control Structure: If condition to validate data
-                if (data.length >= 5) {
-                    // Create new inventory item
-                    // ARRAYLIST OPERATION: Simple .add() method handles everything
-                    InventoryItem item = new InventoryItem(
-                        data[0].trim(),  // dateEntered
-                        data[1].trim(),  // stockLabel
-                        data[2].trim(),  // brand
-                        data[3].trim(),  // engineNumber
-                        data[4].trim()   // status
-                    );
-                    inventoryList.add(item);  // Automatic resizing - no index, no manual counting
-                    // NO manual increment needed - .size() is updated automatically
-                }
-            }
-            
+            InventorySnapshot.loadCached(filename, item -> {
+                // ARRAYLIST OPERATION: Simple .add() method handles everything
+                inventoryList.add(item);  // Automatic resizing - no index, no manual counting
+                trackAdded(item);
+                return true;              // Notice: No size check like in Array!
+            });
+
             // Output: Display load confirmation
             System.out.println("Loaded " + inventoryList.size() + " items into ArrayList.");
             return inventoryList.size();
@@ -77,22 +71,14 @@ public class ArrayListInventory {
     /**
      * Display all items in ArrayList
      * Output: Formatted list of all items
-     * Control Structure: for-each loop
+     * Control Structure: paged output (InventoryRenderer)
      */
     public void displayAll() {
         // Output: Print header
         System.out.println("\n=== Inventory ArrayList ===");
         System.out.println("Total Items: " + inventoryList.size());
-        System.out.println(InventoryItem.getHeader());
-        System.out.println("=".repeat(80));
-        
-        int index = 1;  // Variable: position counter
-        
-        // Control Structure: For-each loop to iterate through list
-        for (InventoryItem item : inventoryList) {
-            System.out.println(index + ". " + item.toString());
-            index++;
-        }
+        // Output: Rows go through one reusable buffer, a page at a time
+        renderer.printTable(inventoryList);
     }
     
     /**
@@ -101,12 +87,66 @@ public class ArrayListInventory {
      * Output: Confirmation message
      */
     public void addItem(InventoryItem item) {
-        inventoryList.add(item);  // Add to list
+        add(item);
         // Output: Confirmation
         System.out.println("Item added successfully: " + item.getEngineNumber());
         System.out.println("New size: " + inventoryList.size());
     }
     
+    /**
+     * Add an item without printing (InventoryStore)
+     * Input: Item
+     * Output: true (the list grows as needed)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        inventoryList.add(item);  // Add to list
+        trackAdded(item);
+        return true;
+    }
+    
+    /**
+     * Remove an item by engine number without printing (InventoryStore)
+     * Input: Engine number
+     * Output: true if removed
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        InventoryItem target = engineIndex.get(engineNumber);
+        // InventoryItem has no equals(), so indexOf finds exactly this object
+        int index = (target == null) ? -1 : inventoryList.indexOf(target);
+        if (index < 0) {
+            return false;
+        }
+        inventoryList.remove(index);
+        trackRemoved(target);
+        return true;
+    }
+    
+    /**
+     * Remove many items at once (InventoryStore)
+     * One compaction pass over the list instead of one shift per item
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loops
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        // InventoryItem has no equals(), so the set holds these exact objects
+        Set<InventoryItem> targets = new LinkedHashSet<>();
+        for (String engineNumber : engineNumbers) {
+            InventoryItem item = engineIndex.get(engineNumber);
+            if (item != null) {
+                targets.add(item);
+            }
+        }
+        inventoryList.removeIf(targets::contains);
+        for (InventoryItem item : targets) {
+            trackRemoved(item);
+        }
+        return targets.size();
+    }
+    
     /**
      * Remove item by index
      * Input: Index to remove (0-based)
@@ -121,6 +161,7 @@ public class ArrayListInventory {
         }
         
         InventoryItem removedItem = inventoryList.remove(index);  // Remove from list
+        trackRemoved(removedItem);
         // Output: Confirmation
         System.out.println("\nRemoved item:");
         System.out.println(InventoryItem.getHeader());
@@ -133,18 +174,11 @@ public class ArrayListInventory {
      * Search items by brand
      * Input: Brand name
      * Output: List of matching items
-     * Control Structure: for-each loop, if condition
+     * Control Structure: if condition, for-each loop
      */
     public ArrayList<InventoryItem> searchByBrand(String brandName) {
-        ArrayList<InventoryItem> results = new ArrayList<>();  // Variable: results list
-        
-        // Control Structure: For-each loop to search
-        for (InventoryItem item : inventoryList) {
-            // Control Structure: Check if brand matches
-            if (item.getBrand().equalsIgnoreCase(brandName)) {
-                results.add(item);
-            }
-        }
+        // Index lookup - only the matching items are visited
+        ArrayList<InventoryItem> results = new ArrayList<>(attributeIndex.find(brandName, null, null));
         
         // Output: Display results
         System.out.println("\n=== Search Results: " + brandName + " ===");
@@ -152,14 +186,8 @@ public class ArrayListInventory {
         
         // Control Structure: Display results if any found
         if (!results.isEmpty()) {
-            System.out.println(InventoryItem.getHeader());
-            System.out.println("=".repeat(80));
-            
-            int index = 1;
-            for (InventoryItem item : results) {
-                System.out.println(index + ". " + item.toString());
-                index++;
-            }
+            // Output: Rows go through one reusable buffer, a page at a time
+            renderer.printTable(results);
         }
         
         return results;
@@ -169,15 +197,59 @@ public class ArrayListInventory {
      * Filter by status
      * Input: Status type (On-hand or Sold)
      * Output: List of matching items
-     * Control Structure: for-each loop, if condition
      */
     public ArrayList<InventoryItem> filterByStatus(String statusType) {
+        // Index lookup - only the matching items are visited
+        return new ArrayList<>(attributeIndex.find(null, statusType, null));
+    }
+    
+    /**
+     * Filter by any combination of brand, status and stock label
+     * Input: Brand, status, stock label (null or empty means "any")
+     * Output: List of items matching all given values, in list order
+     */
+    public ArrayList<InventoryItem> filterBy(String brand, String status, String label) {
+        // Intersection of the index sets, e.g. Honda AND On-hand AND New
+        return new ArrayList<>(attributeIndex.find(anyIfEmpty(brand), anyIfEmpty(status), anyIfEmpty(label)));
+    }
+    
+    /**
+     * Items matching an ad-hoc query over brand, status, stock label and month
+     * Input: Query, e.g. BitmapQuery.brand("Honda").and(BitmapQuery.month(2023, 3))
+     * Output: Matching items in list order
+     */
+    public ArrayList<InventoryItem> findMatching(BitmapQuery query) {
+        return new ArrayList<>(attributeIndex.find(query));
+    }
+    
+    /**
+     * Number of items matching an ad-hoc query (no item list is built)
+     * Input: Query
+     * Output: Count of matching items
+     */
+    public int countMatching(BitmapQuery query) {
+        return attributeIndex.count(query);
+    }
+    
+    /**
+     * Filter by date entered (inclusive range)
+     * Input: Start and end dates in M/d/yyyy format
+     * Output: List of items entered between the two dates, or empty if a date is invalid
+     * Control Structure: for-each loop, if condition
+     */
+    public ArrayList<InventoryItem> filterByDateRange(String fromDate, String toDate) {
         ArrayList<InventoryItem> filtered = new ArrayList<>();
+        int from = InventoryDate.parse(fromDate);  // Parse the bounds once
+        int to = InventoryDate.parse(toDate);
         
-        // Control Structure: For-each loop to filter
+        // Control Structure: Reject unreadable bounds
+        if (from == InventoryDate.INVALID || to == InventoryDate.INVALID) {
+            return filtered;
+        }
+        
+        // Control Structure: Integer comparisons only - no per-item parsing
         for (InventoryItem item : inventoryList) {
-            // Control Structure: Check if status matches
-            if (item.getStatus().equalsIgnoreCase(statusType)) {
+            if (InventoryDate.isBetween(item.getDateValue(), from, to)) {
                 filtered.add(item);
             }
         }
@@ -186,53 +258,26 @@ public class ArrayListInventory {
     }
     
     /**
-     * Sort by brand using bubble sort
+     * Sort by brand (then date, then engine number) using a stable merge sort
      * Output: Confirmation message
-     * Control Structure: nested for loops, if condition
      */
     public void sortByBrand() {
-        int n = inventoryList.size();
-        
-        // Control Structure: Bubble sort outer loop
-        for (int i = 0; i < n - 1; i++) {
-            // Control Structure: Bubble sort inner loop
-            for (int j = 0; j < n - i - 1; j++) {
-                // Control Structure: Compare adjacent items
-                if (inventoryList.get(j).getBrand().compareToIgnoreCase(
-                        inventoryList.get(j + 1).getBrand()) > 0) {
-                    // Swap items
-                    InventoryItem temp = inventoryList.get(j);
-                    inventoryList.set(j, inventoryList.get(j + 1));
-                    inventoryList.set(j + 1, temp);
-                }
-            }
-        }
+        // O(n log n) TimSort on precomputed keys (parallel for large lists)
+        InventorySorter.sort(inventoryList, InventorySorter.SortOrder.BRAND_DATE_ENGINE);
+        attributeIndex.rebuild(inventoryList);  // Filter results follow the new list order
         
         // Output: Confirmation
         System.out.println("List sorted by brand (ascending order)");
     }
     
     /**
-     * Sort by date using bubble sort
+     * Sort by date using a stable merge sort
      * Output: Confirmation message
-     * Control Structure: nested for loops, if condition
      */
     public void sortByDate() {
-        int n = inventoryList.size();
-        
-        // Control Structure: Bubble sort algorithm
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
-                // Control Structure: Compare dates
-                if (inventoryList.get(j).getDateEntered().compareToIgnoreCase(
-                        inventoryList.get(j + 1).getDateEntered()) > 0) {
-                    // Swap items
-                    InventoryItem temp = inventoryList.get(j);
-                    inventoryList.set(j, inventoryList.get(j + 1));
-                    inventoryList.set(j + 1, temp);
-                }
-            }
-        }
+        // Dates are compared as numbers, so 10/1/2023 comes after 2/1/2023
+        InventorySorter.sort(inventoryList, InventorySorter.SortOrder.DATE);
+        attributeIndex.rebuild(inventoryList);  // Filter results follow the new list order
         
         // Output: Confirmation
         System.out.println("List sorted by date (ascending order)");
@@ -242,84 +287,49 @@ public class ArrayListInventory {
      * Update item status by engine number
      * Input: Engine number and new status
      * Output: true if updated, false if not found
-     * Control Structure: for loop, if condition
+     * Control Structure: if-else condition
      */
     public boolean updateStatus(String engineNumber, String newStatus) {
-        boolean found = false;
-        
-        // Control Structure: Search and update
-        for (int i = 0; i < inventoryList.size(); i++) {
-            // Control Structure: Check if engine number matches
-            if (inventoryList.get(i).getEngineNumber().equalsIgnoreCase(engineNumber)) {
-                String oldStatus = inventoryList.get(i).getStatus();
-                inventoryList.get(i).setStatus(newStatus);  // Update status
-                found = true;
-                // Output: Confirmation
-                System.out.println("\nStatus updated successfully!");
-                System.out.println("Engine Number: " + engineNumber);
-                System.out.println("Old Status: " + oldStatus);
-                System.out.println("New Status: " + newStatus);
-                break;  // Exit loop after finding
-            }
-        }
+        InventoryItem item = engineIndex.get(engineNumber);  // O(1) lookup instead of a scan
         
         // Control Structure: Check if found
-        if (!found) {
+        if (item == null) {
             System.out.println("Item not found with engine number: " + engineNumber);
+            return false;
         }
         
-        return found;
+        String oldStatus = item.getStatus();
+        changeStatus(item, newStatus);  // Update status (and live counters)
+        // Output: Confirmation
+        System.out.println("\nStatus updated successfully!");
+        System.out.println("Engine Number: " + engineNumber);
+        System.out.println("Old Status: " + oldStatus);
+        System.out.println("New Status: " + newStatus);
+        return true;
     }
     
     /**
      * Get comprehensive statistics
      * Output: Statistics about inventory
-     * Control Structure: for-each loop, if-else conditions
+     * Control Structure: for-each loop
      */
     public void getStatistics() {
-        int totalItems = inventoryList.size();
-        int onHandCount = 0;
-        int soldCount = 0;
-        int oldStockCount = 0;
-        int newStockCount = 0;
-        Map<String, Integer> brandCounts = new HashMap<>();
-        
-        // Control Structure: Calculate statistics
-        for (InventoryItem item : inventoryList) {
-            // Count by status
-            // Control Structure: If-else for status
-            if (item.getStatus().equalsIgnoreCase("On-hand")) {
-                onHandCount++;
-            } else if (item.getStatus().equalsIgnoreCase("Sold")) {
-                soldCount++;
-            }
-            
-            // Count by stock label
-            // Control Structure: If-else for stock label
-            if (item.getStockLabel().equalsIgnoreCase("Old")) {
-                oldStockCount++;
-            } else if (item.getStockLabel().equalsIgnoreCase("New")) {
-                newStockCount++;
-            }
-            
-            // Count by brand
-            String brand = item.getBrand();
-            // Control Structure: If-else for brand counting
-            if (brandCounts.containsKey(brand)) {
-                brandCounts.put(brand, brandCounts.get(brand) + 1);
-            } else {
-                brandCounts.put(brand, 1);
-            }
-        }
+        // O(1) reads - the counters are updated on every add, remove and status change
+        InventoryCounters stats = counters;
+        int totalItems = stats.getTotal();
+        int onHandCount = stats.getStatusCount("On-hand");
+        int soldCount = stats.getStatusCount("Sold");
+        int oldStockCount = stats.getLabelCount("Old");
+        int newStockCount = stats.getLabelCount("New");
         
         // Output: Display statistics
         System.out.println("\n=== Comprehensive Inventory Statistics ===");
         System.out.println("\nGeneral Statistics:");
         System.out.println("  Total Items: " + totalItems);
         System.out.println("  On-hand Items: " + onHandCount + " (" + 
-                           String.format("%.1f%%", (onHandCount * 100.0 / totalItems)) + ")");
+                           String.format("%.1f%%", stats.percent(onHandCount)) + ")");
         System.out.println("  Sold Items: " + soldCount + " (" + 
-                           String.format("%.1f%%", (soldCount * 100.0 / totalItems)) + ")");
+                           String.format("%.1f%%", stats.percent(soldCount)) + ")");
         
         System.out.println("\nStock Label Distribution:");
         System.out.println("  Old Stock: " + oldStockCount);
@@ -327,27 +337,163 @@ public class ArrayListInventory {
         
         System.out.println("\nBrand Distribution:");
         // Control Structure: For-each loop to display brand counts
-        for (Map.Entry<String, Integer> entry : brandCounts.entrySet()) {
-            System.out.println("  " + entry.getKey() + ": " + entry.getValue() + " (" +
-                               String.format("%.1f%%", (entry.getValue() * 100.0 / totalItems)) + ")");
+        for (String brand : stats.getBrands()) {
+            int count = stats.getBrandCount(brand);
+            System.out.println("  " + brand + ": " + count + " (" +
+                               String.format("%.1f%%", stats.percent(count)) + ")");
+        }
+
+        // Any other attribute: one pass over the list with a key extractor
+        InventoryCounters.Tally byYear = InventoryCounters.groupBy(inventoryList, item ->
+            item.getDateValue() == InventoryDate.INVALID ? "Unknown"
+                : String.valueOf(InventoryDate.year(item.getDateValue())));
+        System.out.println("\nItems Entered per Year:");
+        // Control Structure: For-each loop to display year counts
+        for (String year : byYear.values()) {
+            System.out.println("  " + year + ": " + byYear.count(year));
         }
     }
     
     /**
-     * Search by engine number
+     * Search by engine number using the hash index
      * Input: Engine number
      * Output: Found item or null
-     * Control Structure: for-each loop, if condition
      */
+    @Override
     public InventoryItem searchByEngineNumber(String engineNumber) {
-        // Control Structure: Search through list
-        for (InventoryItem item : inventoryList) {
-            // Control Structure: Check if match
-            if (item.getEngineNumber().equalsIgnoreCase(engineNumber)) {
-                return item;
-            }
+        // O(1) average - no scan through the list
+        return engineIndex.get(engineNumber);
+    }
+    
+    /**
+     * Change an item's status without printing (InventoryStore)
+     * Input: Engine number, new status
+     * Output: true if the item exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeStatus(item, newStatus);
+        return true;
+    }
+    
+    /**
+     * Change the stock label of an item by engine number (InventoryStore)
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
         }
-        return null;  // Not found
+        changeLabel(item, newLabel);
+        return true;
+    }
+    
+    // Live counter reads and index lookups (InventoryStore)
+    @Override
+    public int countByBrand(String brand) {
+        return counters.getBrandCount(brand);
+    }
+    
+    @Override
+    public int countByStatus(String status) {
+        return counters.getStatusCount(status);
+    }
+    
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        return attributeIndex.find(brand, null, null);
+    }
+    
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        return attributeIndex.find(null, status, null);
+    }
+    
+    @Override
+    public int size() {
+        return inventoryList.size();
+    }
+    
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return inventoryList.iterator();
+    }
+    
+    /**
+     * Get the live counters (counts by status, brand and stock label)
+     * Output: Counters kept up to date by every add, remove and status change
+     */
+    public InventoryCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is added
+     * Input: Added item
+     */
+    private void trackAdded(InventoryItem item) {
+        engineIndex.put(item.getEngineNumber(), item);
+        counters.itemAdded(item);
+        attributeIndex.add(item);
+        journal.recordAdd(item);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is removed
+     * Input: Removed item
+     */
+    private void trackRemoved(InventoryItem item) {
+        engineIndex.remove(item.getEngineNumber(), item);
+        counters.itemRemoved(item);
+        attributeIndex.remove(item);
+        journal.recordRemove(item.getEngineNumber());
+    }
+    
+    /**
+     * Change an item's status and keep the counters and indexes in sync
+     * Input: Item, new status
+     */
+    private void changeStatus(InventoryItem item, String newStatus) {
+        String oldStatus = item.getStatus();
+        item.setStatus(newStatus);
+        counters.statusChanged(oldStatus, newStatus);
+        attributeIndex.statusChanged(item, oldStatus);
+        journal.recordStatus(item.getEngineNumber(), newStatus);
+    }
+    
+    /**
+     * Change an item's stock label and keep the counters and indexes in sync
+     * Input: Item, new label
+     */
+    private void changeLabel(InventoryItem item, String newLabel) {
+        String oldLabel = item.getStockLabel();
+        item.setStockLabel(newLabel);
+        counters.labelChanged(oldLabel, newLabel);
+        attributeIndex.labelChanged(item, oldLabel);
+        journal.recordLabel(item.getEngineNumber(), newLabel);
+    }
+    
+    /**
+     * Treat an empty filter value as "any"
+     */
+    private static String anyIfEmpty(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
     }
     
     /**
@@ -364,9 +510,12 @@ public class ArrayListInventory {
         System.out.println("6. Filter by Status");
         System.out.println("7. Sort by Brand");
         System.out.println("8. Sort by Date");
-        System.out.println("9. Update Status");
-        System.out.println("10. Get Statistics");
-        System.out.println("11. Exit");
+        System.out.println("9. Filter by Date Range");
+        System.out.println("10. Update Status");
+        System.out.println("11. Get Statistics");
+        System.out.println("12. Filter by Brand/Status/Label");
+        System.out.println("13. Query by Month");
+        System.out.println("14. Exit");
         System.out.print("Enter choice: ");
     }
     
@@ -450,14 +599,8 @@ public class ArrayListInventory {
                     
                     // Control Structure: If-else to display results
                     if (!filteredResults.isEmpty()) {
-                        System.out.println(InventoryItem.getHeader());
-                        System.out.println("=".repeat(80));
-                        
-                        int idx = 1;
-                        for (InventoryItem item : filteredResults) {
-                            System.out.println(idx + ". " + item.toString());
-                            idx++;
-                        }
+                        // Output: Rows go through one reusable buffer, a page at a time
+                        renderer.printTable(filteredResults);
                     }
                     break;
                     
@@ -476,6 +619,21 @@ public class ArrayListInventory {
                     break;
                     
                 case 9:
+                    // Filter by date entered
+                    System.out.print("Enter start date (M/d/yyyy): ");
+                    String fromDate = scanner.nextLine();
+                    System.out.print("Enter end date (M/d/yyyy): ");
+                    String toDate = scanner.nextLine();
+                    ArrayList<InventoryItem> inRange = filterByDateRange(fromDate, toDate);
+                    
+                    System.out.println("\n=== Entered " + fromDate + " to " + toDate + " ===");
+                    System.out.println("Found " + inRange.size() + " items");
+                    if (!inRange.isEmpty()) {
+                        renderer.printTable(inRange);
+                    }
+                    break;
+                    
+                case 10:
                     // Update status
                     System.out.print("Enter engine number: ");
                     String updateEngine = scanner.nextLine();
@@ -484,12 +642,52 @@ public class ArrayListInventory {
                     updateStatus(updateEngine, newStatus);
                     break;
                     
-                case 10:
+                case 11:
                     // Get statistics
                     getStatistics();
                     break;
                     
-                case 11:
+                case 12:
+                    // Filter by any combination of brand, status and stock label
+                    System.out.print("Brand (blank = any): ");
+                    String anyBrand = scanner.nextLine();
+                    System.out.print("Status (blank = any): ");
+                    String anyStatus = scanner.nextLine();
+                    System.out.print("Stock Label (blank = any): ");
+                    String anyLabel = scanner.nextLine();
+                    ArrayList<InventoryItem> combined = filterBy(anyBrand, anyStatus, anyLabel);
+                    
+                    System.out.println("\nFound " + combined.size() + " items");
+                    if (!combined.isEmpty()) {
+                        renderer.printTable(combined);
+                    }
+                    break;
+                    
+                case 13:
+                    // Count items entered in a month, then list them on request
+                    System.out.print("Enter year and month (e.g. 2023 3): ");
+                    int year = scanner.nextInt();
+                    int month = scanner.nextInt();
+                    scanner.nextLine();
+                    System.out.print("Brand (blank = any): ");
+                    String monthBrand = scanner.nextLine();
+                    System.out.print("Status (blank = any): ");
+                    String monthStatus = scanner.nextLine();
+                    BitmapQuery query = BitmapQuery.month(year, month)
+                        .and(BitmapQuery.allOf(anyIfEmpty(monthBrand), anyIfEmpty(monthStatus), null));
+                    
+                    // Count first - no item list is built unless asked for
+                    int matches = countMatching(query);
+                    System.out.println("\nFound " + matches + " items entered in " + month + "/" + year);
+                    if (matches > 0) {
+                        System.out.print("Display them? (y/n): ");
+                        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                            renderer.printTable(findMatching(query));
+                        }
+                    }
+                    break;
+                    
+                case 14:
                     // Exit
                     System.out.println("Exiting ArrayList Inventory System...");
                     break;
@@ -497,7 +695,7 @@ public class ArrayListInventory {
                 default:
                     System.out.println("Invalid choice! Please try again.");
             }
-        } while (choice != 11);  // Control Structure: Continue until exit
+        } while (choice != 14);  // Control Structure: Continue until exit
     }
     
     /**
@@ -0,0 +1,282 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * AttributeIndex - Secondary indexes on brand, status, stock label and month entered
+ * Demonstrates: inverted indexes, compressed bitmaps, set intersection
+ *
+ * HOW IT WORKS:
+ * - Every item gets an ordinal (0, 1, 2 ...) in the order it was added
+ * - For every distinct brand, status, label and month there is a
+ *   CompressedBitmap with the ordinals of the items that have that value
+ * - A filter like "Honda" is a lookup of one bitmap; a combined filter like
+ *   "Honda AND On-hand AND New" intersects bitmaps 64 items per machine word,
+ *   so items that do not match are never visited
+ * - Any AND / OR / NOT combination can be asked with a BitmapQuery
+ * - Results come back in ordinal order, which is the structure's own order
+ *   (call rebuild after reordering the structure, e.g. after sorting)
+ *
+ * Values ignore letter case, like the equalsIgnoreCase filters.
+ * Not thread-safe.
+ */
+public class AttributeIndex {
+    /**
+     * Attribute - Indexed item fields
+     */
+    public enum Attribute { BRAND, STATUS, LABEL, MONTH }
+
+    // Variables - Ordinal of each item, item of each ordinal, and one bitmap group per attribute
+    private static final CompressedBitmap EMPTY = new CompressedBitmap();
+    private IdentityHashMap<InventoryItem, Integer> ordinals;
+    private InventoryItem[] items;    // items[ordinal], null where an item was removed
+    private int nextOrdinal;
+    private CompressedBitmap present; // Ordinals of the items currently indexed
+    private ValueBitmaps brands;
+    private ValueBitmaps statuses;
+    private ValueBitmaps labels;
+    private HashMap<Integer, CompressedBitmap> months;  // monthKey -> ordinals
+
+    // Constructor
+    public AttributeIndex() {
+        clear();
+    }
+
+    /**
+     * Index a newly added item (it gets the next ordinal)
+     * Input: Added item
+     */
+    public void add(InventoryItem item) {
+        if (nextOrdinal == items.length) {
+            compactOrGrow();
+        }
+        int ordinal = nextOrdinal++;
+        ordinals.put(item, ordinal);
+        items[ordinal] = item;
+        present.add(ordinal);
+        brands.set(item.getBrandId(), ordinal);
+        statuses.set(item.getStatusId(), ordinal);
+        labels.set(item.getLabelId(), ordinal);
+        months.computeIfAbsent(monthKeyOf(item.getDateValue()), key -> new CompressedBitmap()).add(ordinal);
+    }
+
+    /**
+     * Drop a removed item from the index
+     * Input: Removed item
+     * Output: true if it was indexed
+     */
+    public boolean remove(InventoryItem item) {
+        Integer ordinal = ordinals.remove(item);
+        if (ordinal == null) {
+            return false;
+        }
+        items[ordinal] = null;
+        present.remove(ordinal);
+        brands.clear(item.getBrandId(), ordinal);
+        statuses.clear(item.getStatusId(), ordinal);
+        labels.clear(item.getLabelId(), ordinal);
+        CompressedBitmap month = months.get(monthKeyOf(item.getDateValue()));
+        if (month != null) {
+            month.remove(ordinal);
+        }
+        return true;
+    }
+
+    /**
+     * Move an item to its new status bitmap (call after item.setStatus)
+     * Input: Item, status it had before
+     */
+    public void statusChanged(InventoryItem item, String oldStatus) {
+        Integer ordinal = ordinals.get(item);
+        if (ordinal != null) {
+            statuses.clear(ValueIds.of(oldStatus), ordinal);
+            statuses.set(item.getStatusId(), ordinal);
+        }
+    }
+
+    /**
+     * Move an item to its new stock label bitmap (call after item.setStockLabel)
+     * Input: Item, label it had before
+     */
+    public void labelChanged(InventoryItem item, String oldLabel) {
+        Integer ordinal = ordinals.get(item);
+        if (ordinal != null) {
+            labels.clear(ValueIds.of(oldLabel), ordinal);
+            labels.set(item.getLabelId(), ordinal);
+        }
+    }
+
+    /**
+     * Re-index every item in a new order (e.g. after the list was sorted)
+     * Input: Items in the structure's current order
+     * Control Structure: for-each loop
+     */
+    public void rebuild(Iterable<InventoryItem> inOrder) {
+        clear();
+        for (InventoryItem item : inOrder) {
+            add(item);
+        }
+    }
+
+    /**
+     * Forget every item
+     */
+    public void clear() {
+        this.ordinals = new IdentityHashMap<>();
+        this.items = new InventoryItem[64];
+        this.nextOrdinal = 0;
+        this.present = new CompressedBitmap();
+        this.brands = new ValueBitmaps();
+        this.statuses = new ValueBitmaps();
+        this.labels = new ValueBitmaps();
+        this.months = new HashMap<>();
+    }
+
+    /**
+     * Items matching every given value (null means "any")
+     * Input: Brand, status, stock label (each may be null)
+     * Output: Matching items in structure order
+     */
+    public List<InventoryItem> find(String brand, String status, String label) {
+        return find(BitmapQuery.allOf(brand, status, label));
+    }
+
+    /**
+     * Number of items matching every given value (null means "any")
+     * Input: Brand, status, stock label (each may be null)
+     * Output: Count of matching items
+     */
+    public int count(String brand, String status, String label) {
+        return count(BitmapQuery.allOf(brand, status, label));
+    }
+
+    /**
+     * Items matching a query
+     * Input: Query (e.g. brand("Honda").and(status("On-hand")))
+     * Output: Matching items in structure order
+     */
+    public List<InventoryItem> find(BitmapQuery query) {
+        return itemsOf(query.evaluate(this));
+    }
+
+    /**
+     * Number of items matching a query (uses the count-only fast paths)
+     * Input: Query
+     * Output: Count of matching items
+     */
+    public int count(BitmapQuery query) {
+        return query.count(this);
+    }
+
+    /**
+     * Items whose ordinals are in a bitmap, in ordinal order
+     * Input: Ordinals
+     * Output: List of items
+     */
+    public List<InventoryItem> itemsOf(CompressedBitmap matches) {
+        List<InventoryItem> result = new ArrayList<>(matches.cardinality());
+        matches.forEach(ordinal -> result.add(items[ordinal]));
+        return result;
+    }
+
+    /**
+     * Number of indexed items
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Month key used by the month bitmaps
+     * Input: Year, month (1-12)
+     * Output: Key (months since year 0)
+     */
+    public static int monthKey(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+
+    // Bitmaps read by BitmapQuery (shared - never modified by callers)
+    CompressedBitmap bitmapOf(Attribute attribute, String value) {
+        switch (attribute) {
+            case BRAND: return brands.get(value);
+            case STATUS: return statuses.get(value);
+            case LABEL: return labels.get(value);
+            default: throw new IllegalArgumentException("Not a text attribute: " + attribute);
+        }
+    }
+
+    CompressedBitmap bitmapOfMonth(int monthKey) {
+        CompressedBitmap month = months.get(monthKey);
+        return month == null ? EMPTY : month;
+    }
+
+    CompressedBitmap allItems() {
+        return present;
+    }
+
+    /**
+     * Month key of an epoch-day date (unreadable dates share one key)
+     */
+    private static int monthKeyOf(int dateValue) {
+        if (dateValue == InventoryDate.INVALID) {
+            return Integer.MIN_VALUE;
+        }
+        return monthKey(InventoryDate.year(dateValue), InventoryDate.month(dateValue));
+    }
+
+    /**
+     * Make room for more ordinals: renumber when most slots belong to
+     * removed items, otherwise grow the item array
+     * Control Structure: if-else condition
+     */
+    private void compactOrGrow() {
+        int live = ordinals.size();
+
+        // Control Structure: Many holes - renumber the live items in order
+        if (live < items.length / 2) {
+            InventoryItem[] old = items;
+            int oldCount = nextOrdinal;
+            clear();
+            items = new InventoryItem[Math.max(64, old.length)];
+            for (int i = 0; i < oldCount; i++) {
+                if (old[i] != null) {
+                    add(old[i]);
+                }
+            }
+        } else {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+    }
+
+    /**
+     * ValueBitmaps - One bitmap per distinct value of an attribute, ignoring case
+     * Bitmaps are keyed by ValueIds id, so every spelling of a value shares one
+     * bitmap and indexing an item does no case conversion
+     */
+    private static class ValueBitmaps {
+        private final HashMap<Integer, CompressedBitmap> byId = new HashMap<>();
+
+        void set(int id, int ordinal) {
+            byId.computeIfAbsent(id, key -> new CompressedBitmap()).add(ordinal);
+        }
+
+        void clear(int id, int ordinal) {
+            CompressedBitmap bitmap = byId.get(id);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+            }
+        }
+
+        /**
+         * Ordinals with a value (not a copy - do not modify)
+         * Input: Value text, any letter case
+         * Output: Bitmap, empty if no item has the value
+         */
+        CompressedBitmap get(String value) {
+            CompressedBitmap bitmap = byId.get(ValueIds.find(value));
+            return bitmap == null ? EMPTY : bitmap;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * BitmapQuery - Combined filter over the attribute index (AND / OR / NOT)
+ * Demonstrates: expression trees, recursion, bitmap set algebra
+ *
+ * Example: Honda or Yamaha, on hand, entered in March 2023, not old stock
+ *   BitmapQuery.brand("Honda").or(BitmapQuery.brand("Yamaha"))
+ *       .and(BitmapQuery.status("On-hand"))
+ *       .and(BitmapQuery.month(2023, 3))
+ *       .and(BitmapQuery.label("Old").not())
+ *
+ * A query is evaluated against an AttributeIndex into a CompressedBitmap of
+ * item ordinals. count() avoids building bitmaps where it can: a single value
+ * is just that bitmap's size, and an AND of two values counts the
+ * intersection without creating it.
+ */
+public abstract class BitmapQuery {
+
+    // Query builders - single values
+    public static BitmapQuery brand(String brand) { return new Leaf(AttributeIndex.Attribute.BRAND, brand, 0); }
+    public static BitmapQuery status(String status) { return new Leaf(AttributeIndex.Attribute.STATUS, status, 0); }
+    public static BitmapQuery label(String label) { return new Leaf(AttributeIndex.Attribute.LABEL, label, 0); }
+
+    /**
+     * Every indexed item
+     */
+    public static BitmapQuery all() {
+        return new Leaf(null, null, 0);
+    }
+
+    /**
+     * Items entered in a calendar month
+     * Input: Year, month (1-12)
+     */
+    public static BitmapQuery month(int year, int month) {
+        return new Leaf(AttributeIndex.Attribute.MONTH, null, AttributeIndex.monthKey(year, month));
+    }
+
+    /**
+     * Items matching every given value
+     * Input: Brand, status, stock label (each may be null for "any")
+     * Output: AND query of the given values (every item when all are null)
+     * Control Structure: if conditions
+     */
+    public static BitmapQuery allOf(String brand, String status, String label) {
+        BitmapQuery query = all();
+        if (brand != null) {
+            query = brand(brand);
+        }
+        if (status != null) {
+            query = (brand == null) ? status(status) : query.and(status(status));
+        }
+        if (label != null) {
+            query = (brand == null && status == null) ? label(label) : query.and(label(label));
+        }
+        return query;
+    }
+
+    // Query builders - combinations
+    public BitmapQuery and(BitmapQuery other) { return new Combined('&', this, other); }
+    public BitmapQuery or(BitmapQuery other) { return new Combined('|', this, other); }
+    public BitmapQuery not() { return new Not(this); }
+
+    /**
+     * Matching item ordinals
+     * Input: Index to evaluate against
+     * Output: Bitmap of ordinals (may be shared with the index - do not modify)
+     */
+    abstract CompressedBitmap evaluate(AttributeIndex index);
+
+    /**
+     * Number of matching items
+     * Input: Index to evaluate against
+     * Output: Count
+     */
+    int count(AttributeIndex index) {
+        return evaluate(index).cardinality();
+    }
+
+    /**
+     * Leaf - One attribute value (or every item when the attribute is null)
+     */
+    private static final class Leaf extends BitmapQuery {
+        private final AttributeIndex.Attribute attribute;
+        private final String value;
+        private final int monthKey;
+
+        Leaf(AttributeIndex.Attribute attribute, String value, int monthKey) {
+            this.attribute = attribute;
+            this.value = value;
+            this.monthKey = monthKey;
+        }
+
+        @Override
+        CompressedBitmap evaluate(AttributeIndex index) {
+            // Control Structure: No attribute means every item
+            if (attribute == null) {
+                return index.allItems();
+            }
+            return attribute == AttributeIndex.Attribute.MONTH
+                   ? index.bitmapOfMonth(monthKey)
+                   : index.bitmapOf(attribute, value);
+        }
+    }
+
+    /**
+     * Combined - AND or OR of two queries
+     */
+    private static final class Combined extends BitmapQuery {
+        private final char operator;
+        private final BitmapQuery left;
+        private final BitmapQuery right;
+
+        Combined(char operator, BitmapQuery left, BitmapQuery right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        CompressedBitmap evaluate(AttributeIndex index) {
+            CompressedBitmap a = left.evaluate(index);
+
+            // Control Structure: x AND NOT y is one andNot instead of a complement plus an and
+            if (operator == '&' && right instanceof Not) {
+                return CompressedBitmap.andNot(a, ((Not) right).inner.evaluate(index));
+            }
+            CompressedBitmap b = right.evaluate(index);
+            return operator == '&' ? CompressedBitmap.and(a, b) : CompressedBitmap.or(a, b);
+        }
+
+        @Override
+        int count(AttributeIndex index) {
+            // Count-only fast path: AND of two values never builds the intersection
+            if (operator == '&' && left instanceof Leaf && right instanceof Leaf) {
+                return CompressedBitmap.andCardinality(left.evaluate(index), right.evaluate(index));
+            }
+            return evaluate(index).cardinality();
+        }
+    }
+
+    /**
+     * Not - Every indexed item except the matches of a query
+     */
+    private static final class Not extends BitmapQuery {
+        private final BitmapQuery inner;
+
+        Not(BitmapQuery inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        CompressedBitmap evaluate(AttributeIndex index) {
+            return CompressedBitmap.andNot(index.allItems(), inner.evaluate(index));
+        }
+
+        @Override
+        int count(AttributeIndex index) {
+            // Items minus matches - no complement bitmap is built
+            return index.size() - inner.count(index);
+        }
+    }
+}
@@ -0,0 +1,585 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * ColumnarInventoryStore - Memory-compact inventory kept as parallel primitive columns
+ * Demonstrates: column-oriented storage, dictionary encoding, fixed-width byte fields
+ *
+ * ROW LAYOUT VS COLUMN LAYOUT:
+ * - InventoryItem[] keeps an object per item plus a String per field (the unique
+ *   engine number String alone costs about 56 bytes)
+ * - This store keeps one entry per item in each column:
+ *     brand, label, status  -> 1 byte each (dictionary code)
+ *     date entered          -> 4 bytes (epoch day)
+ *     engine number         -> 10 bytes (fixed-width ASCII)
+ *   about 17 bytes per item, plus 12 to 24 bytes per item for the engine
+ *   number index below, so millions of items fit in tens of megabytes
+ * - InventoryItem objects are created only when a caller asks for a row (get)
+ *
+ * Rows whose date or engine number does not fit the compact form (an
+ * unreadable date, an engine number that is not 10 ASCII characters) keep
+ * their original text in a small side table, so nothing is lost.
+ *
+ * ENGINE NUMBER LOOKUPS:
+ * - An EngineNumberTable maps each engine number to its row (packed long key,
+ *   int value - no object per row), so search, remove and the setters by
+ *   engine number do not scan the engine column
+ * - Appends add to it directly; removeRow lowers the row of every later
+ *   entry in place (one pass over an int array), removeAll rebuilds it during
+ *   its compaction pass
+ *
+ * Items returned by searchByEngineNumber, findBy... and iteration are
+ * fresh copies of a row: change a row through setStatus or setStockLabel,
+ * not through them.
+ */
+public class ColumnarInventoryStore implements InventoryStore {
+    // Variables - Column sizes and growth
+    private static final int ENGINE_WIDTH = 10;        // Engine numbers are 10 characters
+    private static final int MAX_CODES = 256;          // Distinct values that fit in a byte column
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Dictionaries for the low-cardinality columns
+    private ValueDictionary brands;
+    private ValueDictionary labels;
+    private ValueDictionary statuses;
+
+    // Columns (row i of the inventory is entry i of every column)
+    private byte[] brandColumn;
+    private byte[] labelColumn;
+    private byte[] statusColumn;
+    private int[] dateColumn;
+    private byte[] engineColumn;  // ENGINE_WIDTH bytes per row
+
+    // Rare rows that do not fit the compact encoding
+    private HashMap<Integer, String> rawDates;
+    private HashMap<Integer, String> rawEngines;
+
+    // Engine number -> first row with it, and rows whose engine number was already indexed
+    private EngineNumberTable rowIndex;
+    private int duplicateRows;
+
+    // Last date text checked for round-tripping (CSV rows share date Strings)
+    private String lastDateText;
+    private boolean lastDateCompact;
+
+    private int size;
+    private final JournalHook journal;  // Change log for crash recovery (no-op until attached)
+
+    // Constructor
+    public ColumnarInventoryStore() {
+        this.brands = new ValueDictionary(MAX_CODES);
+        this.labels = new ValueDictionary(MAX_CODES);
+        this.statuses = new ValueDictionary(MAX_CODES);
+        this.brandColumn = new byte[INITIAL_CAPACITY];
+        this.labelColumn = new byte[INITIAL_CAPACITY];
+        this.statusColumn = new byte[INITIAL_CAPACITY];
+        this.dateColumn = new int[INITIAL_CAPACITY];
+        this.engineColumn = new byte[INITIAL_CAPACITY * ENGINE_WIDTH];
+        this.rawDates = new HashMap<>();
+        this.rawEngines = new HashMap<>();
+        this.rowIndex = new EngineNumberTable();
+        this.duplicateRows = 0;
+        this.size = 0;
+        this.journal = new JournalHook();
+    }
+
+    /**
+     * Load inventory from CSV file
+     * Input: CSV file path
+     * Output: Number of items loaded (rows before a dictionary overflow are kept)
+     * Control Structure: callback, try-catch
+     */
+    @Override
+    public int loadInventoryFromCSV(String filename) {
+        try {
+            // Items are encoded into the columns and then dropped
+            InventorySnapshot.loadCached(filename, item -> {
+                appendRow(item);
+                return true;
+            });
+
+            // Output: Display load confirmation
+            System.out.println("Loaded " + size + " items into columnar store.");
+            return size;
+
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            return 0;
+
+        } catch (IllegalStateException e) {
+            // A byte column holds at most MAX_CODES distinct values; rows read so far are kept
+            System.out.println("Error loading file: " + e.getMessage() + " (stopped after " + size + " items)");
+            return size;
+        }
+    }
+
+    /**
+     * Append an item (its values are copied into the columns)
+     * Input: InventoryItem to add
+     * Output: Row number of the new item
+     * Control Structure: if-else conditions
+     */
+    public int appendRow(InventoryItem item) {
+        ensureCapacity(size + 1);
+        int row = size;
+
+        brandColumn[row] = (byte) brands.encode(item.getBrand());
+        labelColumn[row] = (byte) labels.encode(item.getStockLabel());
+        statusColumn[row] = (byte) statuses.encode(item.getStatus());
+
+        // Control Structure: Keep the original text when the date cannot round-trip
+        String dateText = item.getDateEntered();
+        int date = item.getDateValue();
+        dateColumn[row] = date;
+        if (dateText != lastDateText) {
+            lastDateText = dateText;
+            lastDateCompact = date != InventoryDate.INVALID && InventoryDate.format(date).equals(dateText);
+        }
+        if (!lastDateCompact) {
+            rawDates.put(row, dateText);
+        }
+
+        // Control Structure: Fixed-width ASCII engine numbers go in the byte column
+        String engine = item.getEngineNumber();
+        if (isCompactEngine(engine)) {
+            for (int i = 0; i < ENGINE_WIDTH; i++) {
+                engineColumn[row * ENGINE_WIDTH + i] = (byte) engine.charAt(i);
+            }
+        } else {
+            Arrays.fill(engineColumn, row * ENGINE_WIDTH, (row + 1) * ENGINE_WIDTH, (byte) 0);
+            rawEngines.put(row, engine);
+        }
+        if (engine != null && !rowIndex.put(engine, row)) {
+            duplicateRows++;  // Searches keep finding the earlier row
+        }
+
+        size++;
+        journal.recordAdd(item);
+        return row;
+    }
+
+    /**
+     * Append an item (InventoryStore)
+     * Input: InventoryItem to add
+     * Output: true (columns grow as needed)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        appendRow(item);
+        return true;
+    }
+
+    /**
+     * Remove the row with an engine number, shifting later rows up
+     * Input: Engine number
+     * Output: true if removed
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        int row = indexOfEngine(engineNumber);
+        if (row < 0) {
+            return false;
+        }
+        removeRow(row);
+        return true;
+    }
+
+    /**
+     * Remove a row; every later row moves up by one
+     * Input: Row number
+     * Control Structure: block copies per column, for-each loop over the side tables, if conditions
+     */
+    public void removeRow(int row) {
+        checkRow(row);
+        String engine = getEngineNumber(row);
+        journal.recordRemove(engine);
+
+        // Control Structure: Drop the index entry only if it points at this row (not at an earlier duplicate)
+        boolean indexed = engine != null && rowIndex.get(engine) == row;
+        if (indexed) {
+            rowIndex.remove(engine);
+        } else if (engine != null) {
+            duplicateRows--;
+        }
+
+        int tail = size - row - 1;
+        System.arraycopy(brandColumn, row + 1, brandColumn, row, tail);
+        System.arraycopy(labelColumn, row + 1, labelColumn, row, tail);
+        System.arraycopy(statusColumn, row + 1, statusColumn, row, tail);
+        System.arraycopy(dateColumn, row + 1, dateColumn, row, tail);
+        System.arraycopy(engineColumn, (row + 1) * ENGINE_WIDTH, engineColumn, row * ENGINE_WIDTH, tail * ENGINE_WIDTH);
+        size--;
+
+        // Control Structure: Side-table rows after the removed one move up too
+        rawDates = shiftRows(rawDates, row);
+        rawEngines = shiftRows(rawEngines, row);
+
+        // Later rows moved up: patch their index entries instead of rebuilding the index
+        rowIndex.shiftDownAbove(row);
+        if (indexed && duplicateRows > 0) {
+            indexNextDuplicate(engine, row);
+        }
+    }
+
+    /**
+     * Point the index at the next row with an engine number whose indexed row was removed
+     * Input: Engine number, first row that may hold it
+     * Control Structure: for loop, if condition
+     */
+    private void indexNextDuplicate(String engine, int fromRow) {
+        for (int row = fromRow; row < size; row++) {
+            if (engine.equalsIgnoreCase(getEngineNumber(row))) {
+                rowIndex.put(engine, row);
+                duplicateRows--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove every row whose engine number is listed, in one pass
+     * (each kept row moves at most once, instead of a full shift per row,
+     * and the row index is rebuilt in the same pass)
+     * Input: Engine numbers (any letter case)
+     * Output: Number of rows removed
+     * Control Structure: for loop, if conditions
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        EngineNumberIndex<String> keys = new EngineNumberIndex<>();  // Case-insensitive without upper-casing each row
+        for (String engineNumber : engineNumbers) {
+            keys.put(engineNumber, engineNumber);
+        }
+        HashMap<Integer, String> keptDates = new HashMap<>();
+        HashMap<Integer, String> keptEngines = new HashMap<>();
+        int kept = 0;
+        rowIndex.clear();
+        duplicateRows = 0;
+
+        for (int row = 0; row < size; row++) {
+            String engine = getEngineNumber(row);
+            if (keys.get(engine) != null) {
+                journal.recordRemove(engine);
+                continue;
+            }
+
+            // Control Structure: Slide the kept row down over the gap
+            if (kept != row) {
+                brandColumn[kept] = brandColumn[row];
+                labelColumn[kept] = labelColumn[row];
+                statusColumn[kept] = statusColumn[row];
+                dateColumn[kept] = dateColumn[row];
+                System.arraycopy(engineColumn, row * ENGINE_WIDTH, engineColumn, kept * ENGINE_WIDTH, ENGINE_WIDTH);
+            }
+            if (!rawDates.isEmpty() && rawDates.containsKey(row)) {
+                keptDates.put(kept, rawDates.get(row));
+            }
+            if (!rawEngines.isEmpty() && rawEngines.containsKey(row)) {
+                keptEngines.put(kept, rawEngines.get(row));
+            }
+            if (engine != null && !rowIndex.put(engine, kept)) {
+                duplicateRows++;
+            }
+            kept++;
+        }
+
+        int removed = size - kept;
+        size = kept;
+        rawDates = keptDates;
+        rawEngines = keptEngines;
+        return removed;
+    }
+
+    /**
+     * Find an item by engine number
+     * Input: Engine number (any letter case)
+     * Output: Copy of the row, or null if not found
+     */
+    @Override
+    public InventoryItem searchByEngineNumber(String engineNumber) {
+        int row = indexOfEngine(engineNumber);
+        return row < 0 ? null : get(row);
+    }
+
+    /**
+     * Change the status of the row with an engine number
+     * Input: Engine number, new status
+     * Output: true if the row exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        int row = indexOfEngine(engineNumber);
+        if (row < 0) {
+            return false;
+        }
+        setStatus(row, newStatus);
+        return true;
+    }
+
+    /**
+     * Change the stock label of the row with an engine number
+     * Input: Engine number, new label
+     * Output: true if the row exists
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        int row = indexOfEngine(engineNumber);
+        if (row < 0) {
+            return false;
+        }
+        labelColumn[row] = (byte) labels.encode(newLabel);
+        journal.recordLabel(getEngineNumber(row), newLabel);
+        return true;
+    }
+
+    // Filters - byte column scans, items are built only for matching rows
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        return rowsMatching(brandColumn, brands.matchIgnoreCase(brand));
+    }
+
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        return rowsMatching(statusColumn, statuses.matchIgnoreCase(status));
+    }
+
+    /**
+     * Iterate the rows in order (each step builds one InventoryItem)
+     */
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public InventoryItem next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    /**
+     * Build an InventoryItem view of a row
+     * Input: Row number (0-based)
+     * Output: New InventoryItem with the row's values
+     */
+    public InventoryItem get(int row) {
+        checkRow(row);
+        return new InventoryItem(getDateEntered(row), getStockLabel(row), getBrand(row),
+                                 getEngineNumber(row), getStatus(row));
+    }
+
+    // Column getters (no InventoryItem is created)
+    public String getBrand(int row) { checkRow(row); return brands.decode(brandColumn[row] & 0xFF); }
+    public String getStockLabel(int row) { checkRow(row); return labels.decode(labelColumn[row] & 0xFF); }
+    public String getStatus(int row) { checkRow(row); return statuses.decode(statusColumn[row] & 0xFF); }
+    public int getDateValue(int row) { checkRow(row); return dateColumn[row]; }
+
+    /**
+     * Date entered of a row as text
+     * Input: Row number
+     * Output: Date in M/d/yyyy form (or the original text if it was unreadable)
+     */
+    public String getDateEntered(int row) {
+        checkRow(row);
+        String raw = rawDates.get(row);
+        return raw != null ? raw : InventoryDate.format(dateColumn[row]);
+    }
+
+    /**
+     * Engine number of a row
+     * Input: Row number
+     * Output: Engine number text
+     */
+    public String getEngineNumber(int row) {
+        checkRow(row);
+        String raw = rawEngines.get(row);
+        if (raw != null) {
+            return raw;
+        }
+        return new String(engineColumn, row * ENGINE_WIDTH, ENGINE_WIDTH, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Change the status of a row
+     * Input: Row number, new status
+     */
+    public void setStatus(int row, String status) {
+        checkRow(row);
+        statusColumn[row] = (byte) statuses.encode(status);
+        journal.recordStatus(getEngineNumber(row), status);
+    }
+
+    /**
+     * Find a row by engine number (hash lookup, no scan)
+     * Input: Engine number (any letter case)
+     * Output: Row number (the first row if listed twice), or -1 if not found
+     */
+    public int indexOfEngine(String engineNumber) {
+        return rowIndex.get(engineNumber);  // MISSING is -1
+    }
+
+    /**
+     * Count items by brand
+     * Input: Brand name
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByBrand(String brandName) {
+        return countMatches(brandColumn, brands.matchIgnoreCase(brandName));
+    }
+
+    /**
+     * Count items by status
+     * Input: Status (On-hand or Sold)
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByStatus(String status) {
+        return countMatches(statusColumn, statuses.matchIgnoreCase(status));
+    }
+
+    /**
+     * Count items by stock label
+     * Input: Stock label (Old or New)
+     * Output: Count of matching items
+     */
+    public int countByStockLabel(String label) {
+        return countMatches(labelColumn, labels.matchIgnoreCase(label));
+    }
+
+    /**
+     * Number of items in the store
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+
+    /**
+     * Count rows whose code is marked in a match table
+     * Input: Code column, matches[code]
+     * Output: Number of matching rows
+     * Control Structure: for loop, if condition
+     */
+    private int countMatches(byte[] column, boolean[] matches) {
+        int count = 0;
+
+        // Control Structure: One byte read per row - no String comparisons
+        for (int row = 0; row < size; row++) {
+            int code = column[row] & 0xFF;
+            if (code < matches.length && matches[code]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Rows whose code is marked in a match table, as items
+     * Input: Code column, matches[code]
+     * Output: Matching rows in row order
+     * Control Structure: for loop, if condition
+     */
+    private List<InventoryItem> rowsMatching(byte[] column, boolean[] matches) {
+        List<InventoryItem> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            int code = column[row] & 0xFF;
+            if (code < matches.length && matches[code]) {
+                result.add(get(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Re-key a side table after a row was removed
+     * Input: Side table, removed row
+     * Output: Table without the removed row, later rows one lower
+     * Control Structure: for-each loop, if-else condition
+     */
+    private static HashMap<Integer, String> shiftRows(HashMap<Integer, String> table, int removedRow) {
+        if (table.isEmpty()) {
+            return table;
+        }
+        HashMap<Integer, String> shifted = new HashMap<>();
+        for (HashMap.Entry<Integer, String> entry : table.entrySet()) {
+            int row = entry.getKey();
+            if (row < removedRow) {
+                shifted.put(row, entry.getValue());
+            } else if (row > removedRow) {
+                shifted.put(row - 1, entry.getValue());
+            }
+        }
+        return shifted;
+    }
+
+    /**
+     * Grow every column when it is full
+     * Input: Required number of rows
+     * Control Structure: if condition
+     */
+    private void ensureCapacity(int rows) {
+        if (rows <= dateColumn.length) {
+            return;
+        }
+        int capacity = Math.max(rows, dateColumn.length + (dateColumn.length >> 1));
+        brandColumn = Arrays.copyOf(brandColumn, capacity);
+        labelColumn = Arrays.copyOf(labelColumn, capacity);
+        statusColumn = Arrays.copyOf(statusColumn, capacity);
+        dateColumn = Arrays.copyOf(dateColumn, capacity);
+        engineColumn = Arrays.copyOf(engineColumn, capacity * ENGINE_WIDTH);
+    }
+
+    /**
+     * Validate a row number
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    /**
+     * Check if an engine number fits the fixed-width byte column
+     * Input: Engine number
+     * Output: true for exactly ENGINE_WIDTH printable ASCII characters
+     * Control Structure: for loop
+     */
+    private static boolean isCompactEngine(String engine) {
+        if (engine == null || engine.length() != ENGINE_WIDTH) {
+            return false;
+        }
+        for (int i = 0; i < ENGINE_WIDTH; i++) {
+            char c = engine.charAt(i);
+            if (c <= ' ' || c > '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
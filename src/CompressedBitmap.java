@@ -0,0 +1,609 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * CompressedBitmap - Set of non-negative ints stored as compressed bitmap chunks
+ * Demonstrates: roaring-style bitmaps, container switching, word-level set operations
+ *
+ * HOW IT WORKS:
+ * - The ints are split by their high 16 bits into chunks of 65536 values
+ * - Each chunk that holds at least one value has a container:
+ *     ArrayContainer  - sorted char[] of the low 16 bits (used while the chunk
+ *                       holds at most 4096 values: 2 bytes per value)
+ *     BitmapContainer - long[1024], one bit per possible value (8 KB, used for
+ *                       dense chunks)
+ *   so sparse sets stay small and dense sets become plain bit arrays
+ * - and/or/andNot work chunk by chunk; two bitmap containers are combined
+ *   64 values per machine word, and chunks missing on one side are skipped
+ * - andCardinality counts the intersection without building it
+ *
+ * Not thread-safe. The static set operations never change their inputs.
+ */
+public class CompressedBitmap {
+    // Variables - Sorted chunk keys and their containers
+    private static final int ARRAY_LIMIT = 4096;  // Above this an array container becomes a bitmap
+    private char[] keys;
+    private Container[] containers;
+    private int chunkCount;
+
+    // Constructor
+    public CompressedBitmap() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+        this.chunkCount = 0;
+    }
+
+    /**
+     * Add a value
+     * Input: Value (0 or more)
+     */
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        int chunk = findChunk(key);
+
+        // Control Structure: Create the chunk's container on first use
+        if (chunk < 0) {
+            chunk = -chunk - 1;
+            insertChunk(chunk, key, new ArrayContainer());
+        }
+        containers[chunk] = containers[chunk].add((char) value);
+    }
+
+    /**
+     * Remove a value
+     * Input: Value
+     */
+    public void remove(int value) {
+        int chunk = findChunk((char) (value >>> 16));
+        if (chunk < 0) {
+            return;
+        }
+        Container container = containers[chunk].remove((char) value);
+
+        // Control Structure: Drop chunks that became empty
+        if (container.cardinality() == 0) {
+            removeChunk(chunk);
+        } else {
+            containers[chunk] = container;
+        }
+    }
+
+    /**
+     * Check if a value is in the set
+     * Input: Value
+     * Output: true if present
+     */
+    public boolean contains(int value) {
+        int chunk = findChunk((char) (value >>> 16));
+        return chunk >= 0 && containers[chunk].contains((char) value);
+    }
+
+    /**
+     * Number of values in the set
+     * Control Structure: for loop
+     */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() { return chunkCount == 0; }
+
+    /**
+     * Remove every value
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, chunkCount, null);
+        chunkCount = 0;
+    }
+
+    /**
+     * Visit every value in ascending order
+     * Input: Action for each value
+     * Control Structure: for loop
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Values that are in both sets
+     * Input: Two bitmaps
+     * Output: New bitmap
+     * Control Structure: while loop, if-else conditions
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+
+        // Control Structure: Only chunks present on both sides can match
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i].and(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Values that are in either set
+     * Input: Two bitmaps
+     * Output: New bitmap
+     * Control Structure: while loops, if-else conditions
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+
+        // Control Structure: Merge the chunk lists; shared chunks are combined
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                result.appendChunk(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                result.appendChunk(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < a.chunkCount; i++) {
+            result.appendChunk(a.keys[i], a.containers[i].copy());
+        }
+        for (; j < b.chunkCount; j++) {
+            result.appendChunk(b.keys[j], b.containers[j].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Values of the first set that are not in the second
+     * Input: Two bitmaps
+     * Output: New bitmap
+     * Control Structure: while loops, if-else conditions
+     */
+    public static CompressedBitmap andNot(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+
+        // Control Structure: Chunks missing from b are kept whole
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                result.appendChunk(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(a.keys[i], a.containers[i].andNot(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < a.chunkCount; i++) {
+            result.appendChunk(a.keys[i], a.containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Size of the intersection, without building it
+     * Input: Two bitmaps
+     * Output: Number of values in both
+     * Control Structure: while loop, if-else conditions
+     */
+    public static int andCardinality(CompressedBitmap a, CompressedBitmap b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                count += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Independent copy of this bitmap
+     * Control Structure: for loop
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        for (int i = 0; i < chunkCount; i++) {
+            result.appendChunk(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Binary search for a chunk key
+     * Input: Key (high 16 bits)
+     * Output: Chunk position, or -(insertion point) - 1 if absent
+     */
+    private int findChunk(char key) {
+        // Control Structure: The last chunk is checked first (values usually arrive in order)
+        if (chunkCount > 0 && keys[chunkCount - 1] == key) {
+            return chunkCount - 1;
+        }
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int position, char key, Container container) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, chunkCount * 2);
+            containers = Arrays.copyOf(containers, chunkCount * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(containers, position, containers, position + 1, chunkCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        chunkCount++;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, chunkCount - position - 1);
+        containers[--chunkCount] = null;
+    }
+
+    /**
+     * Append a chunk after all existing ones (set operations build results in key order)
+     * Empty containers are skipped
+     */
+    private void appendChunk(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertChunk(chunkCount, key, container);
+        }
+    }
+
+    /**
+     * Container - Values of one 65536-value chunk (low 16 bits as chars)
+     * Mutating methods return the container to use afterwards, which may be
+     * a different kind when the chunk becomes dense or sparse
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+        abstract Container remove(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract Container or(Container other);
+        abstract Container andNot(Container other);
+        abstract int andCardinality(Container other);
+        abstract Container copy();
+        abstract void forEach(int high, IntConsumer action);
+        abstract BitmapContainer toBitmap();
+    }
+
+    /**
+     * ArrayContainer - Sparse chunk: sorted array of values
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int count;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int count) {
+            this.values = values;
+            this.count = count;
+        }
+
+        @Override
+        Container add(char value) {
+            // Control Structure: Appending in ascending order skips the search
+            int position = (count > 0 && values[count - 1] < value)
+                           ? -count - 1 : Arrays.binarySearch(values, 0, count, value);
+            if (position >= 0) {
+                return this;  // Already present
+            }
+            if (count == ARRAY_LIMIT) {
+                return toBitmap().add(value);  // Too dense for an array
+            }
+            position = -position - 1;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, count * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, count - position);
+            values[position] = value;
+            count++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, count, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, count - position - 1);
+                count--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, count, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[count];
+            int size = 0;
+
+            // Control Structure: Keep the values the other container also has
+            if (other instanceof ArrayContainer) {
+                ArrayContainer b = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < count && j < b.count) {
+                    if (values[i] < b.values[j]) {
+                        i++;
+                    } else if (values[i] > b.values[j]) {
+                        j++;
+                    } else {
+                        result[size++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    if (other.contains(values[i])) {
+                        result[size++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, size);
+        }
+
+        @Override
+        Container or(Container other) {
+            // Control Structure: Two sparse arrays merge; anything else goes through a bitmap
+            if (other instanceof ArrayContainer && count + ((ArrayContainer) other).count <= ARRAY_LIMIT) {
+                ArrayContainer b = (ArrayContainer) other;
+                char[] result = new char[count + b.count];
+                int size = 0;
+                int i = 0;
+                int j = 0;
+                while (i < count && j < b.count) {
+                    if (values[i] < b.values[j]) {
+                        result[size++] = values[i++];
+                    } else if (values[i] > b.values[j]) {
+                        result[size++] = b.values[j++];
+                    } else {
+                        result[size++] = values[i++];
+                        j++;
+                    }
+                }
+                while (i < count) {
+                    result[size++] = values[i++];
+                }
+                while (j < b.count) {
+                    result[size++] = b.values[j++];
+                }
+                return new ArrayContainer(result, size);
+            }
+            return toBitmap().or(other);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[count];
+            int size = 0;
+
+            // Control Structure: Keep the values the other container does not have
+            for (int i = 0; i < count; i++) {
+                if (!other.contains(values[i])) {
+                    result[size++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, size);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int matches = 0;
+            for (int i = 0; i < count; i++) {
+                if (other.contains(values[i])) {
+                    matches++;
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(count, 1)), count);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < count; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < count; i++) {
+                bitmap.words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bitmap.count = count;
+            return bitmap;
+        }
+    }
+
+    /**
+     * BitmapContainer - Dense chunk: one bit per possible value
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[1024];
+        private int count;
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                count++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                count--;
+            }
+            return count <= ARRAY_LIMIT / 2 ? toArray() : this;  // Shrink once clearly sparse
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return count;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer b = (BitmapContainer) other;
+            BitmapContainer result = new BitmapContainer();
+
+            // Control Structure: 64 values per step
+            for (int i = 0; i < words.length; i++) {
+                result.words[i] = words[i] & b.words[i];
+                result.count += Long.bitCount(result.words[i]);
+            }
+            return result.count <= ARRAY_LIMIT ? result.toArray() : result;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer b = other.toBitmap();
+            BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < words.length; i++) {
+                result.words[i] = words[i] | b.words[i];
+                result.count += Long.bitCount(result.words[i]);
+            }
+            return result;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+
+            // Control Structure: Clear the other container's values
+            if (other instanceof ArrayContainer) {
+                ArrayContainer b = (ArrayContainer) other;
+                for (int i = 0; i < b.count; i++) {
+                    char value = b.values[i];
+                    if ((result.words[value >>> 6] & (1L << value)) != 0) {
+                        result.words[value >>> 6] &= ~(1L << value);
+                        result.count--;
+                    }
+                }
+            } else {
+                BitmapContainer b = (BitmapContainer) other;
+                result.count = 0;
+                for (int i = 0; i < words.length; i++) {
+                    result.words[i] &= ~b.words[i];
+                    result.count += Long.bitCount(result.words[i]);
+                }
+            }
+            return result.count <= ARRAY_LIMIT ? result.toArray() : result;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            BitmapContainer b = (BitmapContainer) other;
+            int matches = 0;
+            for (int i = 0; i < words.length; i++) {
+                matches += Long.bitCount(words[i] & b.words[i]);
+            }
+            return matches;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer result = new BitmapContainer();
+            System.arraycopy(words, 0, result.words, 0, words.length);
+            result.count = count;
+            return result;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            // Control Structure: Jump from set bit to set bit inside each word
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        /**
+         * Convert to a sorted array container
+         */
+        ArrayContainer toArray() {
+            char[] values = new char[Math.max(count, 1)];
+            int size = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[size++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ConcurrentInventory - Inventory shared safely by many sales terminals (threads)
+ * Demonstrates: ConcurrentHashMap, per-key atomic updates, linearizable state changes
+ *
+ * HOW IT STAYS CORRECT WITHOUT A GLOBAL LOCK:
+ * - Items live in a ConcurrentHashMap keyed by engine number; lookups never lock
+ *   and updates only lock the one hash bin holding that engine number
+ * - Every change to an item (add, status update, delete) runs inside a compute
+ *   call on its key, so two terminals touching the same engine take turns while
+ *   terminals working on different engines run in parallel
+ * - sellItem checks "On-hand" and sets "Sold" as one atomic step, so the same
+ *   engine can never be sold twice
+ *
+ * Items handed out by searchByEngineNumber are shared; change them only
+ * through this class so the atomic rules and live counters stay valid.
+ */
+public class ConcurrentInventory implements InventoryStore {
+    // Variables - Items by normalized engine number and live counters
+    private final ConcurrentHashMap<Object, InventoryItem> items;  // Key: see key()
+    private final InventoryCounters counters;
+    private final JournalHook journal;  // Change log for crash recovery (no-op until attached)
+
+    // Constructor
+    public ConcurrentInventory() {
+        this.items = new ConcurrentHashMap<>();
+        this.counters = new InventoryCounters();
+        this.journal = new JournalHook();
+    }
+
+    /**
+     * Load inventory from CSV file
+     * Input: CSV file path
+     * Output: Number of items loaded
+     * Control Structure: callback
+     */
+    @Override
+    public int loadInventoryFromCSV(String filename) {
+        try {
+            InventorySnapshot.loadCached(filename, item -> {
+                addItem(item);
+                return true;
+            });
+
+            // Output: Display load confirmation
+            System.out.println("Loaded " + items.size() + " items into concurrent inventory.");
+            return items.size();
+
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Add an item (safe to call from any thread)
+     * Input: InventoryItem to add
+     * Output: true if added, false if the engine number is already present
+     */
+    public boolean addItem(InventoryItem item) {
+        boolean[] added = {false};
+
+        // Control Structure: computeIfAbsent is atomic - two terminals cannot add the same engine,
+        // and the ADD is counted and logged before any later change to that key
+        items.computeIfAbsent(key(item.getEngineNumber()), k -> {
+            counters.itemAdded(item);
+            journal.recordAdd(item);
+            added[0] = true;
+            return item;
+        });
+        return added[0];
+    }
+
+    /**
+     * Search for item by engine number (lock-free read)
+     * Input: Engine number
+     * Output: Found item or null
+     */
+    @Override
+    public InventoryItem searchByEngineNumber(String engineNumber) {
+        return items.get(key(engineNumber));
+    }
+
+    /**
+     * Delete item by engine number
+     * Input: Engine number
+     * Output: true if deleted, false if not found
+     */
+    public boolean deleteByEngineNumber(String engineNumber) {
+        // Control Structure: Only the thread that actually removes it updates the counters,
+        // with the key still locked so the REMOVE is logged after that item's earlier changes
+        boolean[] removed = {false};
+        items.computeIfPresent(key(engineNumber), (k, item) -> {
+            counters.itemRemoved(item);
+            journal.recordRemove(item.getEngineNumber());
+            removed[0] = true;
+            return null;  // Returning null deletes the entry
+        });
+        return removed[0];
+    }
+
+    /**
+     * Set the status of an item unconditionally
+     * Input: Engine number, new status
+     * Output: true if updated, false if not found
+     */
+    public boolean updateStatus(String engineNumber, String newStatus) {
+        // computeIfPresent runs with this key locked, ordered with deletes of the same engine
+        return items.computeIfPresent(key(engineNumber), (k, item) -> {
+            counters.statusChanged(item.getStatus(), newStatus);
+            item.setStatus(newStatus);
+            journal.recordStatus(item.getEngineNumber(), newStatus);
+            return item;
+        }) != null;
+    }
+
+    /**
+     * Set the stock label of an item
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        return items.computeIfPresent(key(engineNumber), (k, item) -> {
+            counters.labelChanged(item.getStockLabel(), newLabel);
+            item.setStockLabel(newLabel);
+            journal.recordLabel(item.getEngineNumber(), newLabel);
+            return item;
+        }) != null;
+    }
+
+    /**
+     * Change the status only if it currently has an expected value
+     * Input: Engine number, expected current status, new status
+     * Output: true if this call made the change
+     * Control Structure: if condition inside an atomic update
+     */
+    public boolean transitionStatus(String engineNumber, String expectedStatus, String newStatus) {
+        boolean[] changed = {false};
+        int expectedId = ValueIds.find(expectedStatus);
+
+        items.computeIfPresent(key(engineNumber), (k, item) -> {
+            // Control Structure: Check-and-set happens as one step for this key
+            if (item.getStatusId() == expectedId) {
+                counters.statusChanged(item.getStatus(), newStatus);
+                item.setStatus(newStatus);
+                journal.recordStatus(item.getEngineNumber(), newStatus);
+                changed[0] = true;
+            }
+            return item;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Sell an on-hand item
+     * Input: Engine number
+     * Output: true if this terminal sold it; false if missing or already sold
+     */
+    public boolean sellItem(String engineNumber) {
+        return transitionStatus(engineNumber, "On-hand", "Sold");
+    }
+
+    /**
+     * Copy of the current items (order is not defined)
+     * Output: List of items present at some moment during the call
+     */
+    public ArrayList<InventoryItem> snapshot() {
+        return new ArrayList<>(items.values());
+    }
+
+    // InventoryStore operations - same atomic paths as the methods above
+    @Override
+    public boolean add(InventoryItem item) { return addItem(item); }
+    @Override
+    public boolean remove(String engineNumber) { return deleteByEngineNumber(engineNumber); }
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) { return updateStatus(engineNumber, newStatus); }
+
+    /**
+     * Items of a brand (order is not defined)
+     * Input: Brand name
+     * Output: Matching items present during the scan
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        List<InventoryItem> result = new ArrayList<>();
+        int brandId = ValueIds.find(brand);  // Folded once per query, not once per item
+        for (InventoryItem item : items.values()) {
+            if (item.getBrandId() == brandId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items with a status (order is not defined)
+     * Input: Status
+     * Output: Matching items present during the scan
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        List<InventoryItem> result = new ArrayList<>();
+        int statusId = ValueIds.find(status);  // Folded once per query, not once per item
+        for (InventoryItem item : items.values()) {
+            if (item.getStatusId() == statusId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Iterate the items (weakly consistent - never throws while other threads write)
+     */
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return items.values().iterator();
+    }
+
+    // Live counts (O(1), safe from any thread)
+    @Override
+    public int countByBrand(String brandName) { return counters.getBrandCount(brandName); }
+    @Override
+    public int countByStatus(String status) { return counters.getStatusCount(status); }
+    public InventoryCounters getCounters() { return counters; }
+    @Override
+    public int size() { return items.size(); }
+
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Every change is logged inside its per-key update, so the journal order
+     * matches the map's order
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+
+    /**
+     * Map key of an engine number, ignoring letter case the way
+     * EngineNumberIndex does (no upper-case copy of the text)
+     * Input: Engine number
+     * Output: Packed engine number (Long), or the folded text if it does not pack
+     */
+    private static Object key(String engineNumber) {
+        long code = EngineNumberIndex.pack(engineNumber);
+        return code != EngineNumberIndex.NOT_PACKED ? (Object) code : ValueIds.fold(engineNumber);
+    }
+}
@@ -0,0 +1,205 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ConcurrentInventoryStress - Contention stress run for ConcurrentInventory
+ * Demonstrates: multi-threaded testing, invariant checking, throughput scaling
+ *
+ * For 1, 2, 4 ... N threads, every thread hammers the same inventory with a mix
+ * of lookups, sales, status updates, adds and deletes. Afterwards it checks:
+ * - No engine number was sold more than once
+ * - Every successful sale is visible as a "Sold" item
+ * - The live counters agree with a full recount of the items
+ *
+ * Usage: java ConcurrentInventoryStress [items] [operationsPerThread] [maxThreads]
+ * Exits with status 1 if any check fails.
+ */
+public class ConcurrentInventoryStress {
+    // Variables - Defaults for a quick run
+    private static final int DEFAULT_ITEMS = 100_000;
+    private static final int DEFAULT_OPERATIONS = 200_000;
+    private static final String[] BRANDS = {"Honda", "Yamaha", "Suzuki", "Kawasaki", "Kymco"};
+
+    /**
+     * Main method - Run the stress test at increasing thread counts
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITEMS;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2])
+                                         : Runtime.getRuntime().availableProcessors() * 2;
+        boolean allPassed = true;
+
+        System.out.println("Threads | ops/ms    | sold   | result");
+
+        // Control Structure: Double the thread count each round
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            allPassed &= runRound(itemCount, operations, threads);
+        }
+
+        if (!allPassed) {
+            System.out.println("STRESS TEST FAILED");
+            System.exit(1);
+        }
+        System.out.println("All rounds passed.");
+    }
+
+    /**
+     * Run one round with a fresh inventory
+     * Input: Number of items, operations per thread, thread count
+     * Output: true if every invariant held
+     * Control Structure: for loops, if conditions
+     */
+    private static boolean runRound(int itemCount, int operations, int threads)
+            throws InterruptedException {
+        ConcurrentInventory inventory = new ConcurrentInventory();
+        String[] engines = new String[itemCount];  // Built up front so the timing measures the inventory
+        for (int i = 0; i < itemCount; i++) {
+            engines[i] = engineNumber(i);
+            inventory.addItem(newItem(i));
+        }
+
+        AtomicIntegerArray sales = new AtomicIntegerArray(itemCount);  // Successful sales per engine
+        AtomicLong soldCount = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        // Control Structure: Start the worker threads
+        for (int t = 0; t < threads; t++) {
+            int threadId = t;
+            Thread worker = new Thread(() -> {
+                awaitQuietly(start);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                for (int op = 0; op < operations; op++) {
+                    int id = random.nextInt(itemCount);
+                    String engine = engines[id];
+                    int dice = random.nextInt(100);
+
+                    // Control Structure: 70% lookups, 25% sales, rest churns the key set
+                    if (dice < 70) {
+                        inventory.searchByEngineNumber(engine);
+                    } else if (dice < 95) {
+                        if (inventory.sellItem(engine)) {
+                            sales.incrementAndGet(id);
+                            soldCount.incrementAndGet();
+                        }
+                    } else if (dice < 97) {
+                        inventory.updateStatus(engine, "Reserved");
+                    } else if (dice < 99) {
+                        // Extra items use ids past the preloaded range
+                        inventory.addItem(newItem(itemCount + threadId * operations + op));
+                    } else {
+                        inventory.deleteByEngineNumber(engineNumber(itemCount + random.nextInt(
+                            Math.max(1, threads * operations))));
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        boolean passed = verify(inventory, sales, itemCount);
+        double opsPerMs = (double) threads * operations / (elapsed / 1_000_000.0);
+        System.out.println(String.format("%7d | %9.0f | %6d | %s",
+                           threads, opsPerMs, soldCount.get(), passed ? "ok" : "FAILED"));
+        return passed;
+    }
+
+    /**
+     * Check the invariants after a round
+     * Input: Inventory, successful sales per engine, number of preloaded items
+     * Output: true if every invariant held
+     * Control Structure: for loops, if conditions
+     */
+    private static boolean verify(ConcurrentInventory inventory, AtomicIntegerArray sales, int itemCount) {
+        boolean passed = true;
+
+        // Control Structure: An engine may be sold at most once
+        for (int id = 0; id < itemCount; id++) {
+            if (sales.get(id) > 1) {
+                System.out.println("  Engine " + engineNumber(id) + " sold " + sales.get(id) + " times");
+                passed = false;
+            }
+        }
+
+        // Control Structure: Recount everything and compare with the live counters
+        int onHand = 0;
+        int sold = 0;
+        int reserved = 0;
+        ArrayList<InventoryItem> items = inventory.snapshot();
+        for (InventoryItem item : items) {
+            if (item.getStatus().equals("On-hand")) {
+                onHand++;
+            } else if (item.getStatus().equals("Sold")) {
+                sold++;
+            } else {
+                reserved++;
+            }
+        }
+
+        InventoryCounters counters = inventory.getCounters();
+        if (counters.getTotal() != items.size()
+                || counters.getStatusCount("On-hand") != onHand
+                || counters.getStatusCount("Sold") != sold
+                || counters.getStatusCount("Reserved") != reserved) {
+            System.out.println("  Counters disagree with recount: total " + counters.getTotal()
+                               + "/" + items.size() + ", sold " + counters.getStatusCount("Sold")
+                               + "/" + sold);
+            passed = false;
+        }
+
+        // Control Structure: Every recorded sale must still show as Sold
+        for (int id = 0; id < itemCount; id++) {
+            if (sales.get(id) == 1) {
+                InventoryItem item = inventory.searchByEngineNumber(engineNumber(id));
+                if (item == null || !item.getStatus().equals("Sold")) {
+                    // A later "Reserved" update is allowed to overwrite a sale
+                    if (item == null || !item.getStatus().equals("Reserved")) {
+                        System.out.println("  Sale of " + engineNumber(id) + " was lost");
+                        passed = false;
+                    }
+                }
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Build a synthetic on-hand item
+     * Input: Numeric id
+     * Output: New InventoryItem
+     */
+    private static InventoryItem newItem(int id) {
+        return new InventoryItem("3/1/2023", "New", BRANDS[id % BRANDS.length], engineNumber(id), "On-hand");
+    }
+
+    /**
+     * Engine number for a numeric id (10 characters, like the CSV)
+     */
+    private static String engineNumber(int id) {
+        return String.format("E%09d", id);
+    }
+
+    /**
+     * Wait for the start signal
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * EngineNumberIndex - Hash index from engine number to an entry of a data structure
+ * Demonstrates: open addressing (linear probing), packing a key into a long
+ *
+ * WHY AN INDEX:
+ * - Linear search compares every item (O(n) per lookup)
+ * - A hash table jumps straight to the entry (O(1) on average)
+ * - Cost: the structure must call put/remove whenever it adds or removes items
+ *
+ * PACKED KEYS:
+ * - MotorPH engine numbers are 10 letters and digits, e.g. 142QVTSIUR
+ * - Each character becomes a 6-bit code with letter case already dropped
+ *   ('a' and 'A' both give 10), so the whole engine number fits in one long
+ * - A lookup packs the engine number it is given (no upper-case copy, no
+ *   allocation) and compares longs - it never reads the indexed Strings
+ * - Engine numbers that do not pack (other characters, longer than 10) go
+ *   in a small HashMap under their folded text (ValueIds.fold)
+ *
+ * Keys are case-insensitive, matching the equalsIgnoreCase searches it replaces.
+ * If the same engine number is added twice, get() returns the one added first
+ * (the same item the old front-to-back linear search found).
+ */
+public class EngineNumberIndex<T> {
+    // Variables - Packing and table sizes
+    private static final int PACKED_LENGTH = 10;      // 4 bits of length + 10 x 6 bits = 64 bits
+    static final long NOT_PACKED = 0;                 // Also marks an empty slot (real codes hold a length)
+    private static final int INITIAL_CAPACITY = 16;   // Power of two
+    private static final int MAX_LOAD_PERCENT = 60;   // Grow before probe runs get long
+
+    // Slots: codes[slot] = packed engine number (NOT_PACKED = empty), entries[slot] = first entry
+    private long[] codes;
+    private Object[] entries;
+    private int mask;     // Slots - 1
+    private int used;     // Slots in use
+
+    // Engine numbers that do not pack, and later duplicates of any engine number (both rare)
+    private HashMap<String, T> others;
+    private HashMap<String, ArrayList<T>> duplicates;
+    private int size;     // Entries, duplicates included
+
+    // Constructor
+    public EngineNumberIndex() {
+        this.codes = new long[INITIAL_CAPACITY];
+        this.entries = new Object[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.used = 0;
+        this.others = new HashMap<>();
+        this.duplicates = new HashMap<>();
+        this.size = 0;
+    }
+
+    /**
+     * Add an entry to the index
+     * Input: Engine number and the entry stored under it
+     * Control Structure: if-else conditions
+     */
+    public void put(String engineNumber, T entry) {
+        long code = pack(engineNumber);
+        boolean added;
+
+        // Control Structure: Packed engine numbers go in the table, the rest in the side map
+        if (code != NOT_PACKED) {
+            int slot = find(code);
+            added = slot < 0;
+            if (added) {
+                if ((used + 1) * 100 > codes.length * MAX_LOAD_PERCENT) {
+                    resize(codes.length * 2);
+                    slot = find(code);
+                }
+                slot = -slot - 1;
+                codes[slot] = code;
+                entries[slot] = entry;
+                used++;
+            }
+        } else {
+            added = others.putIfAbsent(ValueIds.fold(engineNumber), entry) == null;
+        }
+
+        // Control Structure: Keep duplicates so removing the first one can promote the next
+        if (!added) {
+            duplicates.computeIfAbsent(ValueIds.fold(engineNumber), k -> new ArrayList<>()).add(entry);
+        }
+        size++;
+    }
+
+    /**
+     * Remove one specific entry from the index
+     * Input: Engine number and the exact entry that was removed from the structure
+     * Output: true if the entry was indexed
+     * Control Structure: if-else conditions, for loop
+     */
+    public boolean remove(String engineNumber, T entry) {
+        long code = pack(engineNumber);
+        int slot = code != NOT_PACKED ? find(code) : -1;
+        Object current = slot >= 0 ? entries[slot]
+                         : code != NOT_PACKED ? null : others.get(ValueIds.fold(engineNumber));
+
+        // Control Structure: Check if engine number is indexed at all
+        if (current == null) {
+            return false;
+        }
+
+        // Duplicates are looked up only if there are any (no folding otherwise)
+        String folded = duplicates.isEmpty() ? null : ValueIds.fold(engineNumber);
+        ArrayList<T> extra = folded == null ? null : duplicates.get(folded);
+
+        // Control Structure: Removing the first entry promotes the next duplicate
+        if (current == entry) {
+            if (extra != null) {
+                T promoted = extra.remove(0);
+                if (extra.isEmpty()) {
+                    duplicates.remove(folded);
+                }
+                if (slot >= 0) {
+                    entries[slot] = promoted;
+                } else {
+                    others.put(folded, promoted);
+                }
+            } else if (slot >= 0) {
+                deleteSlot(slot);
+            } else {
+                others.remove(ValueIds.fold(engineNumber));
+            }
+            size--;
+            return true;
+        }
+
+        // Control Structure: Otherwise look among the duplicates (rare)
+        if (extra != null) {
+            for (int i = 0; i < extra.size(); i++) {
+                if (extra.get(i) == entry) {
+                    extra.remove(i);
+                    if (extra.isEmpty()) {
+                        duplicates.remove(folded);
+                    }
+                    size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Look up an entry by engine number
+     * Input: Engine number (any letter case)
+     * Output: First entry added under that engine number, or null
+     */
+    @SuppressWarnings("unchecked")
+    public T get(String engineNumber) {
+        if (engineNumber == null) {
+            return null;
+        }
+        long code = pack(engineNumber);
+        if (code == NOT_PACKED) {
+            return others.isEmpty() ? null : others.get(ValueIds.fold(engineNumber));
+        }
+        int slot = find(code);
+        return slot < 0 ? null : (T) entries[slot];
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        Arrays.fill(codes, NOT_PACKED);
+        Arrays.fill(entries, null);
+        used = 0;
+        others.clear();
+        duplicates.clear();
+        size = 0;
+    }
+
+    /**
+     * Number of indexed entries (duplicates included)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Pack an engine number of up to 10 letters and digits into a long
+     * (letter case dropped: '0'-'9' -> 0-9, 'A'-'Z' and 'a'-'z' -> 10-35)
+     * Input: Engine number
+     * Output: Length in the top bits followed by 6 bits per character,
+     *         or NOT_PACKED if it does not fit
+     * Control Structure: for loop, if-else conditions
+     */
+    static long pack(String engineNumber) {
+        int length = engineNumber.length();
+        if (length == 0 || length > PACKED_LENGTH) {
+            return NOT_PACKED;
+        }
+        long code = length;  // Never 0, so a packed key cannot look like an empty slot
+        for (int i = 0; i < length; i++) {
+            char c = engineNumber.charAt(i);
+            if (c >= 0x80) {
+                c = ValueIds.fold(c);  // e.g. the Kelvin sign matches 'k' under equalsIgnoreCase
+            }
+            int symbol;
+            if (c >= '0' && c <= '9') {
+                symbol = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                symbol = c - 'A' + 10;
+            } else if (c >= 'a' && c <= 'z') {
+                symbol = c - 'a' + 10;
+            } else {
+                return NOT_PACKED;
+            }
+            code = code << 6 | symbol;
+        }
+        return code;
+    }
+
+    /**
+     * Sort key of an engine number: its packed characters moved to the top
+     * bits, so comparing two keys orders like comparing the folded text
+     * (shorter engine numbers compare equal to their zero-padded form -
+     * break ties by length)
+     * Input: Engine number
+     * Output: Key of 0 or more, or -1 if the engine number does not pack
+     */
+    static long orderKey(String engineNumber) {
+        long code = pack(engineNumber);
+        if (code == NOT_PACKED) {
+            return -1;
+        }
+        int bits = 6 * engineNumber.length();
+        long symbols = code & ((1L << bits) - 1);  // Drop the length
+        return symbols << (6 * PACKED_LENGTH - bits);
+    }
+
+    /**
+     * Find the slot of a packed engine number
+     * Input: Packed code
+     * Output: Slot, or -(empty slot + 1) where it would be inserted
+     * Control Structure: while loop (linear probing)
+     */
+    private int find(long code) {
+        int slot = home(code, mask);
+        long current;
+        while ((current = codes[slot]) != NOT_PACKED) {
+            if (current == code) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Empty a slot, moving later entries of the probe run back into the gap
+     * (backward-shift deletion: no "deleted" markers slow later lookups)
+     * Input: Slot to empty
+     * Control Structure: while loop, if condition
+     */
+    private void deleteSlot(int slot) {
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (codes[next] != NOT_PACKED) {
+            // Control Structure: An entry may fill the gap if the gap lies between its home slot and it
+            int home = home(codes[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                codes[gap] = codes[next];
+                entries[gap] = entries[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        codes[gap] = NOT_PACKED;
+        entries[gap] = null;
+        used--;
+    }
+
+    /**
+     * Move every slot into a larger table
+     * Input: New capacity (power of two)
+     * Control Structure: for loop, while loop
+     */
+    private void resize(int capacity) {
+        long[] oldCodes = codes;
+        Object[] oldEntries = entries;
+        codes = new long[capacity];
+        entries = new Object[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldCodes.length; i++) {
+            if (oldCodes[i] != NOT_PACKED) {
+                int slot = home(oldCodes[i], mask);
+                while (codes[slot] != NOT_PACKED) {
+                    slot = (slot + 1) & mask;
+                }
+                codes[slot] = oldCodes[i];
+                entries[slot] = oldEntries[i];
+            }
+        }
+    }
+
+    // First slot to try for a code (multiplying spreads similar engine numbers apart)
+    static int home(long code, int mask) {
+        long mixed = code * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & mask;
+    }
+}
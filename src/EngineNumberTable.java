@@ -0,0 +1,210 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * EngineNumberTable - Hash table from engine number to an int (a row or item number)
+ * Demonstrates: open addressing with primitive arrays, no boxing per entry
+ *
+ * WHY NOT EngineNumberIndex<Integer>:
+ * - Every entry of EngineNumberIndex<Integer> holds a boxed Integer object
+ *   (16 bytes plus a reference) next to its packed key
+ * - Here a slot is just a long key and an int value in two primitive arrays:
+ *   12 bytes per slot, 12 to 24 bytes per entry depending on how full the table is
+ * - Keys are packed exactly like EngineNumberIndex.pack (case-insensitive,
+ *   no String created per lookup); engine numbers that do not pack go in a
+ *   small HashMap under their folded text
+ *
+ * Each engine number has at most one value: put keeps the value already
+ * there. Not thread-safe.
+ */
+public class EngineNumberTable {
+    // Variables - Table sizes and the value returned for a missing key
+    public static final int MISSING = -1;
+    private static final int INITIAL_CAPACITY = 16;   // Power of two
+    private static final int MAX_LOAD_PERCENT = 60;
+
+    // Slots: codes[slot] = packed engine number (NOT_PACKED = empty), values[slot] = its value
+    private long[] codes;
+    private int[] values;
+    private int mask;
+    private int used;
+
+    // Engine numbers that do not pack (rare)
+    private HashMap<String, Integer> others;
+
+    // Constructor
+    public EngineNumberTable() {
+        this.codes = new long[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.used = 0;
+        this.others = new HashMap<>();
+    }
+
+    /**
+     * Add an engine number unless it is already present
+     * Input: Engine number, value (0 or more)
+     * Output: true if added, false if the engine number already had a value
+     * Control Structure: if-else conditions
+     */
+    public boolean put(String engineNumber, int value) {
+        long code = EngineNumberIndex.pack(engineNumber);
+
+        // Control Structure: Packed engine numbers go in the table, the rest in the side map
+        if (code == EngineNumberIndex.NOT_PACKED) {
+            return others.putIfAbsent(ValueIds.fold(engineNumber), value) == null;
+        }
+        int slot = find(code);
+        if (slot >= 0) {
+            return false;
+        }
+        if ((used + 1) * 100 > codes.length * MAX_LOAD_PERCENT) {
+            resize(codes.length * 2);
+            slot = find(code);
+        }
+        slot = -slot - 1;
+        codes[slot] = code;
+        values[slot] = value;
+        used++;
+        return true;
+    }
+
+    /**
+     * Look up the value of an engine number
+     * Input: Engine number (any letter case)
+     * Output: Value, or MISSING
+     */
+    public int get(String engineNumber) {
+        if (engineNumber == null) {
+            return MISSING;
+        }
+        long code = EngineNumberIndex.pack(engineNumber);
+        if (code == EngineNumberIndex.NOT_PACKED) {
+            Integer value = others.isEmpty() ? null : others.get(ValueIds.fold(engineNumber));
+            return value == null ? MISSING : value;
+        }
+        int slot = find(code);
+        return slot < 0 ? MISSING : values[slot];
+    }
+
+    /**
+     * Remove an engine number
+     * Input: Engine number
+     * Output: Its value, or MISSING if it was not present
+     */
+    public int remove(String engineNumber) {
+        long code = EngineNumberIndex.pack(engineNumber);
+        if (code == EngineNumberIndex.NOT_PACKED) {
+            Integer value = others.remove(ValueIds.fold(engineNumber));
+            return value == null ? MISSING : value;
+        }
+        int slot = find(code);
+        if (slot < 0) {
+            return MISSING;
+        }
+        int value = values[slot];
+        deleteSlot(slot);
+        return value;
+    }
+
+    /**
+     * Lower by one every value above a removed one (rows after a removed
+     * row move up; one pass over the primitive arrays, nothing is re-hashed)
+     * Input: Removed value
+     * Control Structure: for loop, for-each loop
+     */
+    public void shiftDownAbove(int removedValue) {
+        // Empty slots are changed too: harmless, put overwrites the value, and a
+        // loop without the key check runs several slots per instruction
+        int[] slots = values;
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (slots[slot] > removedValue) {
+                slots[slot]--;
+            }
+        }
+        for (HashMap.Entry<String, Integer> entry : others.entrySet()) {
+            if (entry.getValue() > removedValue) {
+                entry.setValue(entry.getValue() - 1);
+            }
+        }
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        Arrays.fill(codes, EngineNumberIndex.NOT_PACKED);
+        used = 0;
+        others.clear();
+    }
+
+    /**
+     * Number of engine numbers in the table
+     */
+    public int size() {
+        return used + others.size();
+    }
+
+    /**
+     * Find the slot of a packed engine number
+     * Input: Packed code
+     * Output: Slot, or -(empty slot + 1) where it would be inserted
+     * Control Structure: while loop (linear probing)
+     */
+    private int find(long code) {
+        int slot = EngineNumberIndex.home(code, mask);
+        long current;
+        while ((current = codes[slot]) != EngineNumberIndex.NOT_PACKED) {
+            if (current == code) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Empty a slot with backward-shift deletion (see EngineNumberIndex)
+     * Input: Slot to empty
+     * Control Structure: while loop, if condition
+     */
+    private void deleteSlot(int slot) {
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (codes[next] != EngineNumberIndex.NOT_PACKED) {
+            int home = EngineNumberIndex.home(codes[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                codes[gap] = codes[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        codes[gap] = EngineNumberIndex.NOT_PACKED;
+        used--;
+    }
+
+    /**
+     * Move every slot into a larger table
+     * Input: New capacity (power of two)
+     * Control Structure: for loop, while loop
+     */
+    private void resize(int capacity) {
+        long[] oldCodes = codes;
+        int[] oldValues = values;
+        codes = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldCodes.length; i++) {
+            if (oldCodes[i] != EngineNumberIndex.NOT_PACKED) {
+                int slot = EngineNumberIndex.home(oldCodes[i], mask);
+                while (codes[slot] != EngineNumberIndex.NOT_PACKED) {
+                    slot = (slot + 1) & mask;
+                }
+                codes[slot] = oldCodes[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * InventoryBenchmark - Measures every inventory structure on the same workload
+ * Demonstrates: micro-benchmarking, warm-up rounds, interface-based testing
+ *
+ * For each inventory size a synthetic CSV is generated once
+ * (InventoryDataGenerator), then every structure is created through
+ * InventoryStore.create and timed on:
+ *   csv      - loadInventoryFromCSV with no snapshot: parse the whole file and
+ *              write its binary snapshot, like a first start (ms)
+ *   snapshot - loadInventoryFromCSV with the snapshot present: read it back,
+ *              like a restart (ms)
+ *   lookup   - searchByEngineNumber of random existing items (ns/op)
+ *   count    - countByBrand over the five brands (ns/op)
+ *   filter   - findByStatus("On-hand") (ms/op)
+ *   sort     - sorted copy by brand with InventorySorter (ms/op)
+ *   insert   - add of new items (ns/op)
+ *   delete   - remove of random existing items (ns/op)
+ *   orders   - sell the next on-hand items with setStatus (ns/op)
+ *
+ * Every timing is the best of MEASURE_ROUNDS after WARMUP_ROUNDS, so the JIT
+ * has compiled the code being measured. Results feed a checksum that is
+ * printed at the end, so no work can be optimized away.
+ *
+ * Usage: java InventoryBenchmark [sizes] [structures] [seed]
+ *   e.g. java InventoryBenchmark 1000,100000,10000000 array,linkedlist,stack,queue,arraylist
+ * 10M items need a large heap (e.g. -Xmx8g) and a few GB of temp disk space.
+ */
+public class InventoryBenchmark {
+    // Variables - Defaults and repetition counts
+    private static final String DEFAULT_SIZES = "1000,100000";
+    private static final String DEFAULT_STRUCTURES = "array,linkedlist,stack,queue,arraylist";
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 3;
+    private static final int LOOKUPS = 10_000;
+    private static final int INSERTS = 1_000;
+    private static final int DELETES = 100;   // Removing from an array-like structure is O(n)
+    private static final int ORDERS = 1_000;
+    private static final String[] BRANDS = {"Honda", "Kymco", "Yamaha", "Kawasaki", "Suzuki"};
+
+    private static long checksum = 0;  // Variable: consumes results so they stay live
+
+    /**
+     * Main method - Run the benchmark for every size and structure
+     */
+    public static void main(String[] args) throws IOException {
+        String[] sizes = (args.length > 0 ? args[0] : DEFAULT_SIZES).split(",");
+        String[] structures = (args.length > 1 ? args[1] : DEFAULT_STRUCTURES).split(",");
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        System.out.println(String.format("%-10s %-11s %9s %9s %9s %9s %9s %9s %9s %9s %9s",
+                           "items", "structure", "csv ms", "snap ms", "lookup ns", "count ns", "filter ms",
+                           "sort ms", "insert ns", "delete ns", "orders ns"));
+
+        // Control Structure: One generated file per size, shared by all structures
+        for (String sizeText : sizes) {
+            int size = Integer.parseInt(sizeText.trim());
+            File csv = File.createTempFile("inventory-" + size + "-", ".csv");
+            csv.deleteOnExit();
+            new InventoryDataGenerator(seed).writeCsv(csv.getPath(), size);
+
+            for (String type : structures) {
+                runStructure(type.trim(), csv.getPath(), size, seed);
+            }
+            csv.delete();
+            new File(csv.getPath() + InventorySnapshot.EXTENSION).delete();
+        }
+        System.out.println("checksum " + checksum);
+    }
+
+    /**
+     * Time every operation on one structure
+     * Input: Structure name, CSV path, number of items in the file, seed
+     * Output: One result line
+     */
+    private static void runStructure(String type, String csvPath, int size, long seed) {
+        Random random = new Random(seed);
+
+        // Load: a fresh store per round; the last one is used for the other operations
+        File snapshot = new File(csvPath + InventorySnapshot.EXTENSION);
+        InventoryStore[] loaded = new InventoryStore[1];
+        Runnable load = () -> {
+            InventoryStore store = InventoryStore.create(type);
+            quietly(() -> checksum += store.loadInventoryFromCSV(csvPath));
+            loaded[0] = store;
+        };
+
+        // Every CSV round starts without a snapshot; the last one leaves it written for the snapshot rounds
+        double csvMs = best(() -> {
+            loaded[0] = null;  // Let the previous round's store be collected
+            snapshot.delete();
+        }, load) / 1e6;
+        double snapshotMs = best(() -> loaded[0] = null, load) / 1e6;
+        InventoryStore store = loaded[0];
+
+        // Engine numbers of existing items, picked at random
+        InventoryDataGenerator generator = new InventoryDataGenerator(seed);
+        String[] existing = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            existing[i] = generator.engineNumber(random.nextInt(size));
+        }
+
+        double lookupNs = best(() -> {
+            for (String engine : existing) {
+                checksum += store.searchByEngineNumber(engine) != null ? 1 : 0;
+            }
+        }) / LOOKUPS;
+
+        double countNs = best(() -> {
+            for (String brand : BRANDS) {
+                checksum += store.countByBrand(brand);
+            }
+        }) / BRANDS.length;
+
+        double filterMs = best(() -> checksum += store.findByStatus("On-hand").size()) / 1e6;
+
+        double sortMs = best(() -> checksum += InventorySorter.sortedView(store, InventorySorter.SortOrder.BRAND)
+                                                             .size()) / 1e6;
+
+        // Changing operations are timed once - repeating them would measure a different inventory
+        generator.seek(size);  // Rows after the file's last one - engine numbers cannot clash
+        List<InventoryItem> newItems = new ArrayList<>(INSERTS);
+        for (int i = 0; i < INSERTS; i++) {
+            newItems.add(generator.nextItem());
+        }
+        double insertNs = time(() -> {
+            for (InventoryItem item : newItems) {
+                checksum += store.add(item) ? 1 : 0;
+            }
+        }) / INSERTS;
+
+        List<String> victims = distinctEngines(generator, random, size, DELETES);
+        double deleteNs = time(() -> {
+            for (String engine : victims) {
+                checksum += store.remove(engine) ? 1 : 0;
+            }
+        }) / DELETES;
+
+        double ordersNs = time(() -> checksum += sellOnHand(store, ORDERS)) / ORDERS;
+
+        System.out.println(String.format("%-10d %-11s %9.1f %9.1f %9.0f %9.0f %9.2f %9.2f %9.0f %9.0f %9.0f",
+                           size, type, csvMs, snapshotMs, lookupNs, countNs, filterMs, sortMs,
+                           insertNs, deleteNs, ordersNs));
+    }
+
+    /**
+     * Order processing through the common interface: walk the store in its
+     * own order and sell on-hand items until the orders are filled
+     * Input: Store, number of orders
+     * Output: Number of orders filled
+     * Control Structure: for-each loop, if condition
+     */
+    private static int sellOnHand(InventoryStore store, int orders) {
+        List<String> toSell = new ArrayList<>(orders);
+        for (InventoryItem item : store) {
+            if (toSell.size() == orders) {
+                break;
+            }
+            if (item.getStatusId() == ValueIds.ON_HAND) {
+                toSell.add(item.getEngineNumber());
+            }
+        }
+
+        int filled = 0;
+        for (String engine : toSell) {
+            if (store.setStatus(engine, "Sold")) {
+                filled++;
+            }
+        }
+        return filled;
+    }
+
+    /**
+     * Distinct engine numbers of existing items
+     * Input: Generator of the file, random source, inventory size, how many
+     * Output: List of engine numbers
+     */
+    private static List<String> distinctEngines(InventoryDataGenerator generator, Random random,
+                                                int size, int count) {
+        List<String> engines = new ArrayList<>(count);
+        HashSet<Integer> used = new HashSet<>();
+        while (engines.size() < Math.min(count, size)) {
+            int index = random.nextInt(size);
+            if (used.add(index)) {
+                engines.add(generator.engineNumber(index));
+            }
+        }
+        return engines;
+    }
+
+    /**
+     * Best time of the measured rounds after the warm-up rounds
+     * Input: Work to time
+     * Output: Nanoseconds of the fastest measured round
+     * Control Structure: for loops
+     */
+    private static double best(Runnable work) {
+        return best(() -> { }, work);
+    }
+
+    /**
+     * Best time of the measured rounds, with untimed setup before every round
+     * Input: Setup (e.g. delete a cache file), work to time
+     * Output: Nanoseconds of the fastest measured round
+     * Control Structure: for loops
+     */
+    private static double best(Runnable setup, Runnable work) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            setup.run();
+            work.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            setup.run();
+            best = Math.min(best, time(work));
+        }
+        return best;
+    }
+
+    /**
+     * Time one run of some work
+     * Input: Work to time
+     * Output: Nanoseconds taken
+     */
+    private static long time(Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Run some work with System.out silenced (the load methods print a confirmation)
+     * Input: Work to run
+     */
+    private static void quietly(Runnable work) {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            work.run();
+        } finally {
+            System.setOut(original);
+        }
+    }
+}
@@ -0,0 +1,539 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * InventoryCSVReader - Shared loader for the MotorPH inventory CSV layout
+ * Demonstrates: single-pass streaming parse, hand-written tokenizer, callbacks
+ *
+ * CSV LAYOUT:
+ * - Two header lines (column descriptions, then column names)
+ * - Five columns per record: Date Entered, Stock Label, Brand, Engine Number, Status
+ *
+ * WHY NOT String.split(","):
+ * - split() goes through the regex machinery and builds a String[] per line
+ * - This reader scans raw bytes once, finds the commas itself and only creates
+ *   the five field Strings it actually needs
+ * - Repeated values (dates, labels, brands, statuses) are reused from a small cache
+ *
+ * LARGE FILES:
+ * - Files over PARALLEL_THRESHOLD are memory-mapped with FileChannel, cut into
+ *   newline-aligned chunks and parsed on all cores (see loadMapped)
+ */
+public class InventoryCSVReader {
+    // Variables - Buffer sizes and parser state
+    private static final int BUFFER_SIZE = 64 * 1024;  // Bytes read from disk per refill
+    private static final int HEADER_LINES = 2;          // Lines skipped before the first record
+    private static final int FIELD_COUNT = 5;           // Columns per record
+
+    // Variables - Parallel (memory-mapped) loading
+    private static final long PARALLEL_THRESHOLD = 32L * 1024 * 1024;  // Smaller files load on one thread
+    private static final long MIN_CHUNK_SIZE = 4L * 1024 * 1024;       // Bytes per parallel chunk (lower bound)
+    private static final long MAX_CHUNK_SIZE = 256L * 1024 * 1024;     // Stays well under the 2 GB map limit
+
+    private final InputStream in;
+    private byte[] buffer;
+    private int start;       // Start of the line currently being parsed
+    private int limit;       // Number of valid bytes in buffer
+    private boolean skipLF;  // Previous line ended with '\r', so a leading '\n' belongs to it
+    private boolean eof;
+
+    // Field start/end offsets for the record being parsed (reused for every line)
+    private final int[] fieldStart = new int[FIELD_COUNT];
+    private final int[] fieldEnd = new int[FIELD_COUNT];
+
+    // Caches for columns with few distinct values (the engine number is always unique)
+    private final ValueCache dateCache = new ValueCache();
+    private final ValueCache labelCache = new ValueCache();
+    private final ValueCache brandCache = new ValueCache();
+    private final ValueCache statusCache = new ValueCache();
+
+    // Constructor
+    private InventoryCSVReader(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.start = 0;
+        this.limit = 0;
+        this.skipLF = false;
+        this.eof = false;
+    }
+
+    /**
+     * Load every record of a CSV file into a sink
+     * Large files are memory-mapped and parsed in parallel; items still reach
+     * the sink in file order
+     * Input: CSV file path, sink that stores the items
+     * Output: Number of items accepted by the sink
+     * Control Structure: if-else condition, try-with-resources
+     */
+    public static int load(String filename, ItemSink sink) throws IOException {
+        File file = new File(filename);
+
+        // Control Structure: Only pay for threads when the file is big enough
+        if (file.length() >= PARALLEL_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1) {
+            return loadMapped(filename, sink, Runtime.getRuntime().availableProcessors());
+        }
+
+        try (InputStream in = new FileInputStream(file)) {
+            return read(in, sink);
+        }
+    }
+
+    /**
+     * Parse CSV data from any stream into a sink
+     * Input: Stream positioned at the first header line, sink that stores the items
+     * Output: Number of items accepted by the sink
+     */
+    public static int read(InputStream in, ItemSink sink) throws IOException {
+        return new InventoryCSVReader(in).readRecords(HEADER_LINES, sink);
+    }
+
+    /**
+     * Memory-map a CSV file and parse newline-aligned chunks on several threads
+     * Input: CSV file path, sink that stores the items, number of worker threads
+     * Output: Number of items accepted by the sink
+     * Control Structure: for loops, try-finally
+     *
+     * ORDERING: Each chunk is parsed into its own list and the lists are handed
+     * to the sink strictly in chunk order, so list/queue order and stack LIFO
+     * order are the same as with the single-threaded reader.
+     */
+    public static int loadMapped(String filename, ItemSink sink, int threads) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = skipHeaderLines(channel, size);
+            long[] bounds = chunkBounds(channel, dataStart, size, threads);
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+            try {
+                // Control Structure: Submit one parse task per chunk
+                List<Future<List<InventoryItem>>> chunks = new ArrayList<>();
+                for (int i = 0; i + 1 < bounds.length; i++) {
+                    long from = bounds[i];
+                    long to = bounds[i + 1];
+                    chunks.add(pool.submit(() -> parseChunk(channel, from, to)));
+                }
+
+                int count = 0;  // Variable: items accepted by the sink
+
+                // Control Structure: Merge results back in original file order
+                for (Future<List<InventoryItem>> chunk : chunks) {
+                    for (InventoryItem item : await(chunk)) {
+                        if (!sink.accept(item)) {
+                            return count;  // Sink is full - remaining chunks are cancelled below
+                        }
+                        count++;
+                    }
+                }
+                return count;
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Parse one chunk of a mapped file
+     * Input: File channel, chunk start and end offsets
+     * Output: Items of the chunk in file order
+     */
+    private static List<InventoryItem> parseChunk(FileChannel channel, long from, long to)
+            throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        List<InventoryItem> items = new ArrayList<>();
+        new InventoryCSVReader(new MappedInputStream(mapped)).readRecords(0, items::add);
+        return items;
+    }
+
+    /**
+     * Wait for a chunk, unwrapping worker failures into IOException
+     * Input: Future of a submitted chunk
+     * Output: Parsed items of that chunk
+     */
+    private static List<InventoryItem> await(Future<List<InventoryItem>> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("CSV load interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error parsing CSV chunk", cause);
+        }
+    }
+
+    /**
+     * Find the file offset of the first data record
+     * Input: File channel, file size
+     * Output: Offset just past the second header line
+     * Control Structure: for loop
+     */
+    private static long skipHeaderLines(FileChannel channel, long size) throws IOException {
+        long pos = 0;
+
+        // Control Structure: Skip one line per header
+        for (int i = 0; i < HEADER_LINES && pos < size; i++) {
+            pos = nextLineStart(channel, pos, size);
+        }
+        return pos;
+    }
+
+    /**
+     * Split the data region into chunks that start at the beginning of a line
+     * Input: File channel, first data offset, file size, number of workers
+     * Output: Chunk boundaries (chunk i runs from bounds[i] to bounds[i + 1])
+     * Control Structure: while loop, if condition
+     */
+    private static long[] chunkBounds(FileChannel channel, long dataStart, long size, int threads)
+            throws IOException {
+        // A few chunks per thread keeps the cores busy when chunk speeds differ
+        long target = Math.max(MIN_CHUNK_SIZE, (size - dataStart) / (Math.max(1, threads) * 4L));
+        target = Math.min(target, MAX_CHUNK_SIZE);
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(dataStart);
+        long pos = dataStart;
+
+        // Control Structure: Move each tentative boundary forward to a line start
+        while (pos < size) {
+            long next = (size - pos <= target) ? size : nextLineStart(channel, pos + target, size);
+            bounds.add(next);
+            pos = next;
+        }
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Find the start of the line after a given offset
+     * Input: File channel, offset inside a line, file size
+     * Output: Offset just past the next line terminator, or the file size
+     * Control Structure: while loops, if conditions
+     */
+    private static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(8192);
+
+        // Control Structure: Read small windows until a terminator shows up
+        while (pos < size) {
+            window.clear();
+            int read = channel.read(window, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = window.get(i);
+                if (b == '\n') {
+                    return pos + i + 1;
+                }
+                if (b == '\r') {
+                    // Keep a "\r\n" pair inside the same chunk
+                    long after = pos + i + 1;
+                    if (i + 1 < read) {
+                        return window.get(i + 1) == '\n' ? after + 1 : after;
+                    }
+                    ByteBuffer one = ByteBuffer.allocate(1);
+                    if (after < size && channel.read(one, after) == 1 && one.get(0) == '\n') {
+                        return after + 1;
+                    }
+                    return after;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    /**
+     * Parse the remaining lines of this reader's input
+     * Input: Number of header lines to skip, sink that stores the items
+     * Output: Number of items accepted by the sink
+     * Control Structure: for loop, while loop, if condition
+     */
+    private int readRecords(int headerLines, ItemSink sink) throws IOException {
+        // Control Structure: Skip the header lines
+        for (int i = 0; i < headerLines; i++) {
+            int headerEnd = nextLineEnd();
+            if (headerEnd < 0) {
+                return 0;
+            }
+            start = headerEnd + 1;
+        }
+
+        int count = 0;  // Variable: items accepted by the sink
+        int end;
+
+        // Control Structure: While loop over the remaining lines
+        while ((end = nextLineEnd()) >= 0) {
+            InventoryItem item = parseRecord(end);
+
+            // Control Structure: Skip blank or short lines
+            if (item != null) {
+                if (!sink.accept(item)) {
+                    break;  // Sink is full - the rejected item is not counted
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the end of the next line, refilling the buffer as needed
+     * Output: Offset of the line terminator (line runs from start), or -1 at end of input
+     * Control Structure: while loop, if conditions
+     */
+    private int nextLineEnd() throws IOException {
+        int pos = start;
+
+        while (true) {
+            // Control Structure: Scan the buffered bytes for a terminator
+            while (pos < limit) {
+                byte b = buffer[pos];
+
+                // Control Structure: Drop the '\n' of a "\r\n" pair
+                if (skipLF) {
+                    skipLF = false;
+                    if (b == '\n' && pos == start) {
+                        start++;
+                        pos++;
+                        continue;
+                    }
+                }
+                if (b == '\n' || b == '\r') {
+                    skipLF = (b == '\r');
+                    return pos;
+                }
+                pos++;
+            }
+
+            // Control Structure: Last line has no terminator
+            if (eof) {
+                return (start < limit) ? limit : -1;
+            }
+
+            // Move the partial line to the front and read more
+            pos = fill(pos);
+        }
+    }
+
+    /**
+     * Compact the partial line to the front of the buffer and read more bytes
+     * Input: Current scan position
+     * Output: Scan position after compaction
+     */
+    private int fill(int pos) throws IOException {
+        int partial = limit - start;
+
+        // Control Structure: Grow the buffer for lines longer than it
+        if (partial == buffer.length) {
+            byte[] bigger = new byte[buffer.length * 2];
+            System.arraycopy(buffer, start, bigger, 0, partial);
+            buffer = bigger;
+        } else if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, partial);
+        }
+
+        pos -= start;
+        start = 0;
+        limit = partial;
+
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+        return pos;
+    }
+
+    /**
+     * Split the current line into five trimmed fields and build an item
+     * Input: Offset of the line terminator
+     * Output: New InventoryItem, or null if the line has fewer than five fields
+     * Control Structure: for loop, if conditions
+     */
+    private InventoryItem parseRecord(int end) {
+        int lineStart = start;
+        start = end + 1;  // Next line begins after the terminator
+
+        int field = 0;
+        int fieldBegin = lineStart;
+
+        // Control Structure: Locate the commas of the first five fields
+        for (int i = lineStart; i < end && field < FIELD_COUNT - 1; i++) {
+            if (buffer[i] == ',') {
+                fieldStart[field] = fieldBegin;
+                fieldEnd[field] = i;
+                field++;
+                fieldBegin = i + 1;
+            }
+        }
+
+        // Control Structure: Need four commas before the status column
+        if (field < FIELD_COUNT - 1) {
+            return null;
+        }
+
+        // Status runs to the next comma (extra columns are ignored)
+        int statusEnd = fieldBegin;
+        while (statusEnd < end && buffer[statusEnd] != ',') {
+            statusEnd++;
+        }
+        fieldStart[FIELD_COUNT - 1] = fieldBegin;
+        fieldEnd[FIELD_COUNT - 1] = statusEnd;
+
+        // Control Structure: Same rule as split(","), trailing empty columns do not count
+        if (!hasContentAfter(fieldBegin, end)) {
+            return null;
+        }
+
+        return new InventoryItem(
+            dateCache.get(this, 0),    // dateEntered
+            labelCache.get(this, 1),   // stockLabel
+            brandCache.get(this, 2),   // brand
+            text(3),                   // engineNumber
+            statusCache.get(this, 4)   // status
+        );
+    }
+
+    /**
+     * Check that the status column or a later one holds at least one character
+     * Input: Offset of the status column, end of line
+     * Output: true if a non-comma byte follows
+     */
+    private boolean hasContentAfter(int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer[i] != ',') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trimmed bounds of a field, written into the reusable offset arrays
+     * Input: Field number (0-4)
+     */
+    private void trim(int field) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+
+        // Control Structure: Same whitespace rule as String.trim()
+        while (from < to && (buffer[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (buffer[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        fieldStart[field] = from;
+        fieldEnd[field] = to;
+    }
+
+    /**
+     * Build a String for a field
+     * Input: Field number (0-4)
+     * Output: Trimmed field text
+     */
+    private String text(int field) {
+        trim(field);
+        return new String(buffer, fieldStart[field], fieldEnd[field] - fieldStart[field],
+                          StandardCharsets.UTF_8);
+    }
+
+    /**
+     * ValueCache - Direct-mapped cache of recently seen field values
+     * Lets "Honda", "On-hand", "2/1/2023" etc. share one String per distinct value
+     */
+    private static class ValueCache {
+        private static final int SLOTS = 256;  // Must be a power of two
+        private final byte[][] keys = new byte[SLOTS][];
+        private final String[] values = new String[SLOTS];
+
+        /**
+         * Return the cached String for a field, creating it on a miss
+         * Input: Reader holding the line, field number
+         * Output: String with the field's trimmed text
+         * Control Structure: for loops, if conditions
+         */
+        String get(InventoryCSVReader reader, int field) {
+            reader.trim(field);
+            byte[] buf = reader.buffer;
+            int from = reader.fieldStart[field];
+            int length = reader.fieldEnd[field] - from;
+
+            // Hash the raw bytes (no String needed yet)
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + buf[from + i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+
+            // Control Structure: Reuse the cached value on an exact byte match
+            byte[] key = keys[slot];
+            if (key != null && key.length == length) {
+                boolean same = true;
+                for (int i = 0; i < length; i++) {
+                    if (key[i] != buf[from + i]) {
+                        same = false;
+                        break;
+                    }
+                }
+                if (same) {
+                    return values[slot];
+                }
+            }
+
+            // Cache miss - create the String and remember it
+            byte[] copy = new byte[length];
+            System.arraycopy(buf, from, copy, 0, length);
+            String value = new String(copy, StandardCharsets.UTF_8);
+            keys[slot] = copy;
+            values[slot] = value;
+            return value;
+        }
+    }
+
+    /**
+     * MappedInputStream - Lets the byte tokenizer read a memory-mapped chunk
+     */
+    private static class MappedInputStream extends InputStream {
+        private final ByteBuffer source;
+
+        MappedInputStream(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() {
+            return source.hasRemaining() ? (source.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] dest, int offset, int length) {
+            // Control Structure: Signal end of chunk
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(length, source.remaining());
+            source.get(dest, offset, n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * InventoryCounters - Running totals by status, brand and stock label
+ * Demonstrates: incremental maintenance, atomic primitive counters, one-pass group-by
+ *
+ * HOW IT WORKS:
+ * - Each inventory structure reports every add, remove and status change
+ * - The counters move by +1/-1 at that moment, so reading a count is O(1)
+ *   instead of a scan over the whole inventory
+ * - Counters are indexed by ValueIds id: ids below DENSE_IDS (every brand,
+ *   status and label in practice) are slots of an AtomicIntegerArray, larger
+ *   ids fall back to a ConcurrentHashMap; updates from several threads never
+ *   lose increments
+ * - groupBy counts any attribute of any group of items in one pass into plain
+ *   int[] tallies
+ *
+ * Values are grouped ignoring letter case, like the equalsIgnoreCase searches.
+ * Changes made directly on an InventoryItem (item.setStatus) bypass the
+ * structure and are not counted; use the structure's update methods.
+ */
+public class InventoryCounters {
+    // Variables - Ids below this are counted in arrays, larger ones in a map
+    private static final int DENSE_IDS = 1024;
+
+    // Variables - Total and one counter group per attribute
+    private final AtomicInteger total;
+    private final CounterGroup statusCounts;
+    private final CounterGroup brandCounts;
+    private final CounterGroup labelCounts;
+
+    // Constructor
+    public InventoryCounters() {
+        this.total = new AtomicInteger();
+        this.statusCounts = new CounterGroup();
+        this.brandCounts = new CounterGroup();
+        this.labelCounts = new CounterGroup();
+    }
+
+    /**
+     * Count any group of items in one pass (e.g. a findByBrand result)
+     * Input: Items of any inventory structure
+     * Output: Counters holding their totals
+     * Control Structure: for-each loop
+     */
+    public static InventoryCounters of(Iterable<InventoryItem> items) {
+        InventoryCounters counters = new InventoryCounters();
+
+        // Control Structure: Visit every item exactly once
+        for (InventoryItem item : items) {
+            counters.itemAdded(item);
+        }
+        return counters;
+    }
+
+    /**
+     * Count items per value of any attribute in one pass
+     * Input: Items, function that picks the attribute (e.g. InventoryItem::getBrand)
+     * Output: Tally of counts per value, ignoring letter case
+     * Control Structure: for-each loop
+     *
+     * Values get ValueIds ids, which are never forgotten: group by
+     * low-cardinality attributes (brand, year, label), not engine numbers.
+     */
+    public static Tally groupBy(Iterable<InventoryItem> items, Function<InventoryItem, String> key) {
+        Tally tally = new Tally();
+
+        // Control Structure: Visit every item exactly once
+        for (InventoryItem item : items) {
+            String value = key.apply(item);
+            tally.add(ValueIds.of(value), value);
+        }
+        return tally;
+    }
+
+    /**
+     * Record that an item was added to the inventory
+     * Input: Added item
+     */
+    public void itemAdded(InventoryItem item) {
+        total.incrementAndGet();
+        statusCounts.add(item.getStatusId(), item.getStatus(), 1);
+        brandCounts.add(item.getBrandId(), item.getBrand(), 1);
+        labelCounts.add(item.getLabelId(), item.getStockLabel(), 1);
+    }
+
+    /**
+     * Record that an item was removed from the inventory
+     * Input: Removed item
+     */
+    public void itemRemoved(InventoryItem item) {
+        total.decrementAndGet();
+        statusCounts.add(item.getStatusId(), item.getStatus(), -1);
+        brandCounts.add(item.getBrandId(), item.getBrand(), -1);
+        labelCounts.add(item.getLabelId(), item.getStockLabel(), -1);
+    }
+
+    /**
+     * Record a status change of an item that stays in the inventory
+     * Input: Old status, new status
+     */
+    public void statusChanged(String oldStatus, String newStatus) {
+        statusCounts.add(ValueIds.of(oldStatus), oldStatus, -1);
+        statusCounts.add(ValueIds.of(newStatus), newStatus, 1);
+    }
+
+    /**
+     * Record a stock label change of an item that stays in the inventory
+     * Input: Old label, new label
+     */
+    public void labelChanged(String oldLabel, String newLabel) {
+        labelCounts.add(ValueIds.of(oldLabel), oldLabel, -1);
+        labelCounts.add(ValueIds.of(newLabel), newLabel, 1);
+    }
+
+    /**
+     * Forget every count
+     */
+    public void clear() {
+        total.set(0);
+        statusCounts.clear();
+        brandCounts.clear();
+        labelCounts.clear();
+    }
+
+    // Query API - all O(1)
+    public int getTotal() { return total.get(); }
+    public int getStatusCount(String status) { return statusCounts.get(status); }
+    public int getBrandCount(String brand) { return brandCounts.get(brand); }
+    public int getLabelCount(String label) { return labelCounts.get(label); }
+
+    // Distinct values currently present (count > 0), in first-seen order
+    public List<String> getStatuses() { return statusCounts.values(); }
+    public List<String> getBrands() { return brandCounts.values(); }
+    public List<String> getLabels() { return labelCounts.values(); }
+
+    /**
+     * Percentage of the total
+     * Input: Count
+     * Output: Percentage (0 when there are no items)
+     */
+    public double percent(int count) {
+        int items = total.get();
+        return items == 0 ? 0.0 : count * 100.0 / items;
+    }
+
+    /**
+     * Tally - Plain (single-thread) counts per value for groupBy
+     * counts[id] for ids below DENSE_IDS, a map for larger ids and null (NONE)
+     */
+    public static class Tally {
+        private int[] counts;                       // Count per id, grown as ids appear
+        private HashMap<Integer, Integer> overflow; // Count per id outside counts
+        private HashMap<Integer, String> nameOf;    // First spelling seen per id
+        private ArrayList<Integer> order;           // Ids in first-seen order
+
+        // Constructor
+        public Tally() {
+            this.counts = new int[16];
+            this.overflow = new HashMap<>();
+            this.nameOf = new HashMap<>();
+            this.order = new ArrayList<>();
+        }
+
+        /**
+         * Count one occurrence of a value
+         * Input: Value id, value text (kept as display name if the value is new)
+         * Control Structure: if-else conditions
+         */
+        void add(int id, String value) {
+            boolean first;
+
+            // Control Structure: Array slot for small ids, map otherwise
+            if (id >= 0 && id < DENSE_IDS) {
+                if (id >= counts.length) {
+                    counts = Arrays.copyOf(counts, Math.min(DENSE_IDS, Integer.highestOneBit(id) * 2));
+                }
+                first = counts[id]++ == 0;
+            } else {
+                first = overflow.merge(id, 1, Integer::sum) == 1;
+            }
+            if (first) {
+                nameOf.put(id, value == null ? "" : value);
+                order.add(id);
+            }
+        }
+
+        /**
+         * Count of a value, ignoring letter case
+         * Input: Value text
+         * Output: Count (0 if never seen)
+         */
+        public int count(String value) {
+            return countOf(value == null ? ValueIds.NONE : ValueIds.find(value));
+        }
+
+        /**
+         * Distinct values in the order they were first seen
+         */
+        public List<String> values() {
+            List<String> names = new ArrayList<>(order.size());
+            for (Integer id : order) {
+                names.add(nameOf.get(id));
+            }
+            return names;
+        }
+
+        /**
+         * Number of distinct values
+         */
+        public int size() {
+            return order.size();
+        }
+
+        private int countOf(int id) {
+            if (id >= 0 && id < DENSE_IDS) {
+                return id < counts.length ? counts[id] : 0;
+            }
+            Integer count = overflow.get(id);
+            return count == null ? 0 : count;
+        }
+    }
+
+    /**
+     * CounterGroup - Thread-safe case-insensitive counters for one attribute
+     * Counters are keyed by ValueIds id, so every spelling of a value shares one
+     * counter and an update does no case conversion. Ids below DENSE_IDS are
+     * slots of an AtomicIntegerArray (no map lookup, no boxing); the rest, and
+     * null values, use a ConcurrentHashMap.
+     */
+    private static class CounterGroup {
+        private final AtomicIntegerArray dense = new AtomicIntegerArray(DENSE_IDS);
+        private final AtomicReferenceArray<String> denseNames = new AtomicReferenceArray<>(DENSE_IDS);  // First spelling seen
+        private final ConcurrentHashMap<Integer, AtomicInteger> overflow = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, String> overflowNames = new ConcurrentHashMap<>();
+        private final CopyOnWriteArrayList<Integer> order = new CopyOnWriteArrayList<>();  // Ids in first-seen order
+
+        /**
+         * Change the counter of a value
+         * Input: Value id, value text (kept as display name if the value is new), amount (+1 or -1)
+         * Control Structure: if-else conditions
+         */
+        void add(int id, String value, int delta) {
+            String name = value == null ? "" : value;
+
+            // Control Structure: Array slot for small ids, map otherwise
+            if (id >= 0 && id < DENSE_IDS) {
+                if (denseNames.get(id) == null && denseNames.compareAndSet(id, null, name)) {
+                    order.add(id);  // Runs once per distinct value
+                }
+                dense.addAndGet(id, delta);
+                return;
+            }
+            AtomicInteger counter = overflow.get(id);
+            if (counter == null) {
+                counter = overflow.computeIfAbsent(id, key -> {
+                    overflowNames.put(key, name);  // Runs once per distinct value
+                    order.add(key);
+                    return new AtomicInteger();
+                });
+            }
+            counter.addAndGet(delta);
+        }
+
+        /**
+         * Current count of a value, ignoring letter case
+         * Input: Value text
+         * Output: Count (0 if never seen)
+         */
+        int get(String value) {
+            return countOf(ValueIds.find(value));
+        }
+
+        /**
+         * Values with a positive count, in first-seen order
+         * Control Structure: for-each loop, if condition
+         */
+        List<String> values() {
+            List<String> present = new ArrayList<>();
+            for (Integer id : order) {
+                if (countOf(id) > 0) {
+                    present.add(id >= 0 && id < DENSE_IDS ? denseNames.get(id) : overflowNames.get(id));
+                }
+            }
+            return present;
+        }
+
+        void clear() {
+            for (Integer id : order) {
+                if (id >= 0 && id < DENSE_IDS) {
+                    dense.set(id, 0);
+                    denseNames.set(id, null);
+                }
+            }
+            overflow.clear();
+            overflowNames.clear();
+            order.clear();
+        }
+
+        private int countOf(int id) {
+            if (id >= 0 && id < DENSE_IDS) {
+                return dense.get(id);
+            }
+            AtomicInteger counter = overflow.get(id);
+            return counter == null ? 0 : counter.get();
+        }
+    }
+}
@@ -0,0 +1,434 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * InventoryDataGenerator - Synthetic inventory shaped like the MotorPH CSV
+ * Demonstrates: seeded random data, weighted choices, permutations, buffered streaming
+ *
+ * SHAPE (taken from the March 2023 sample):
+ * - Brands: Honda 13, Kymco 12, Yamaha 9, Kawasaki 8, Suzuki 6 (out of 48)
+ * - Status: Sold 27, On-hand 21
+ * - Labels: Old 29, New 19 - "New" stock is entered in the last month of the
+ *   date range, "Old" stock in one of the earlier months
+ * - Dates: days 1-7 of a month, like the sample
+ * - Engine numbers: unique, 10 characters of 0-9 and A-Z
+ *
+ * UNIQUE ENGINE NUMBERS WITHOUT A HASH SET:
+ * - Item i gets the number (A * i + C) mod 36^10, written in base 36
+ * - A is chosen coprime to 36^10, so this is a permutation: different
+ *   indexes can never give the same number, and consecutive items still
+ *   look unrelated
+ * - Memory stays constant however many rows are generated
+ *
+ * FULL-SPEED OUTPUT:
+ * - Every value is encoded to bytes once up front; a row is written by
+ *   copying those bytes into a 1 MB buffer, so no String or char
+ *   conversion happens per row
+ * - openStream serves the same bytes as an InputStream generated on the
+ *   fly, e.g. for InventoryCSVReader.read without a file on disk
+ *
+ * The same seed always produces the same rows in the same order.
+ * Not thread-safe.
+ *
+ * Usage: java InventoryDataGenerator output.csv rows [seed] [months]
+ */
+public class InventoryDataGenerator {
+    // Variables - Value tables and their weights (counts in the sample)
+    private static final String[] BRANDS = {"Honda", "Kymco", "Yamaha", "Kawasaki", "Suzuki"};
+    private static final int[] BRAND_WEIGHTS = {13, 12, 9, 8, 6};
+    private static final String[] STATUSES = {"Sold", "On-hand"};
+    private static final int[] STATUS_WEIGHTS = {27, 21};
+    private static final String[] LABELS = {"Old", "New"};
+    private static final int[] LABEL_WEIGHTS = {29, 19};
+    private static final int DAYS_PER_MONTH = 7;  // Stock is entered on days 1-7
+    private static final String HEADER =
+        "Date when the stock is entered into inventory,Status of the stock in relation to previous month's inventory data,"
+        + "Stock's brand,Stock's Engine number,Stock's purchase status\n"
+        + "Date Entered,Stock Label,Brand,Engine Number,Status\n";
+
+    // Variables - Engine number permutation
+    private static final int ENGINE_WIDTH = 10;
+    private static final long ENGINE_SPACE = pow36(ENGINE_WIDTH);  // 36^10 distinct numbers
+    private static final byte[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    // Variables - Output buffering
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_ROW_BYTES = 64;  // Longest encoded row, with room to spare
+
+    private final SplittableRandom random;
+    private final long multiplier;  // A, coprime to ENGINE_SPACE
+    private final long offset;      // C
+    private final byte[] multiplierDigits = new byte[ENGINE_WIDTH];  // A in base 36
+    private final byte[] nextDigits = new byte[ENGINE_WIDTH];        // (A * i + C) mod 36^10 of the next row i
+
+    // Lookup tables: one roll of 0-47 picks a weighted value
+    private final byte[] brandByRoll;
+    private final byte[] statusByRoll;
+    private final byte[] labelByRoll;
+
+    // Dates: months[0 .. monthCount-2] hold Old stock, the last month New stock
+    private final int monthCount;
+    private final String[][] dateText;      // [month][day - 1]
+
+    // Encoded row pieces: "date,label,brand," per [month][day - 1][brand] and ",status\n"
+    private final byte[][][][] prefixBytes;
+    private final byte[][] suffixBytes;
+
+    // Fields of the row picked by nextRow
+    private int rowMonth;
+    private int rowDay;
+    private int rowLabel;
+    private int rowBrand;
+    private int rowStatus;
+    private final byte[] rowDigits = new byte[ENGINE_WIDTH];
+
+    // Constructor - The sample's layout: February 2023 is Old stock, March 2023 New
+    public InventoryDataGenerator(long seed) {
+        this(seed, 2023, 3, 2);
+    }
+
+    /**
+     * Constructor with a date range
+     * Input: Seed, year and month of the newest stock, number of months of
+     *        stock (at least 1; with 1 month every item is New)
+     */
+    public InventoryDataGenerator(long seed, int year, int month, int months) {
+        if (months < 1 || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Need a month 1-12 and at least one month of stock");
+        }
+        this.random = new SplittableRandom(seed);
+
+        // Control Structure: Any A that is not divisible by 2 or 3 is coprime to 36^10
+        long a = ENGINE_SPACE / 3 + random.nextLong(ENGINE_SPACE / 2);
+        while (a % 2 == 0 || a % 3 == 0) {
+            a++;
+        }
+        this.multiplier = a;
+        this.offset = random.nextLong(ENGINE_SPACE);
+        toDigits(multiplier, multiplierDigits);
+        seek(0);
+
+        this.brandByRoll = rollTable(BRAND_WEIGHTS);
+        this.statusByRoll = rollTable(STATUS_WEIGHTS);
+        this.labelByRoll = rollTable(LABEL_WEIGHTS);
+
+        // Control Structure: Walk back from the newest month
+        this.monthCount = months;
+        this.dateText = new String[months][DAYS_PER_MONTH];
+        this.prefixBytes = new byte[months][DAYS_PER_MONTH][BRANDS.length][];
+        int y = year;
+        int m = month;
+        for (int k = months - 1; k >= 0; k--) {
+            for (int day = 1; day <= DAYS_PER_MONTH; day++) {
+                dateText[k][day - 1] = m + "/" + day + "/" + y;
+                String label = (k == months - 1) ? "New" : "Old";
+                for (int brand = 0; brand < BRANDS.length; brand++) {
+                    prefixBytes[k][day - 1][brand] = (dateText[k][day - 1] + "," + label + "," + BRANDS[brand] + ",")
+                                                     .getBytes(StandardCharsets.US_ASCII);
+                }
+            }
+            if (--m == 0) {
+                m = 12;
+                y--;
+            }
+        }
+        this.suffixBytes = new byte[STATUSES.length][];
+        for (int status = 0; status < STATUSES.length; status++) {
+            suffixBytes[status] = ("," + STATUSES[status] + "\n").getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Build the next item
+     * Output: New InventoryItem (value Strings are shared between items)
+     */
+    public InventoryItem nextItem() {
+        nextRow();
+        return new InventoryItem(dateText[rowMonth][rowDay], LABELS[rowLabel], BRANDS[rowBrand],
+                                 new String(encodeDigits(rowDigits), StandardCharsets.US_ASCII),
+                                 STATUSES[rowStatus]);
+    }
+
+    /**
+     * Continue from another row index (the attribute values stay random,
+     * the engine numbers follow the permutation from that index on)
+     * Input: Row index, e.g. the size of an already generated file to get
+     *        items that cannot clash with it
+     */
+    public void seek(long index) {
+        toDigits(engineValue(index), nextDigits);
+    }
+
+    /**
+     * Engine number of the row with a given index (same seed, same answer)
+     * Input: Row index (0-based)
+     * Output: 10-character base-36 text
+     */
+    public String engineNumber(long index) {
+        byte[] digits = new byte[ENGINE_WIDTH];
+        toDigits(engineValue(index), digits);
+        return new String(encodeDigits(digits), StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Write a CSV file with the MotorPH two-line header
+     * Input: File path, number of rows
+     * Output: File on disk
+     */
+    public void writeCsv(String filename, long count) throws IOException {
+        try (OutputStream out = new FileOutputStream(filename)) {
+            writeCsv(out, count);
+        }
+    }
+
+    /**
+     * Write CSV rows (with the header) to a stream
+     * Input: Destination stream (not closed), number of rows
+     * Control Structure: for loop, if condition
+     */
+    public void writeCsv(OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] header = HEADER.getBytes(StandardCharsets.UTF_8);
+        out.write(header);
+        int pos = 0;
+
+        // Control Structure: Fill the buffer with whole rows, write it when nearly full
+        for (long i = 0; i < count; i++) {
+            if (pos > BUFFER_SIZE - MAX_ROW_BYTES) {
+                out.write(buffer, 0, pos);
+                pos = 0;
+            }
+            nextRow();
+            pos = encodeRow(buffer, pos);
+        }
+        out.write(buffer, 0, pos);
+        out.flush();
+    }
+
+    /**
+     * CSV data (with the header) generated while it is read - nothing is
+     * stored, so the stream can be far larger than memory
+     * Input: Number of rows
+     * Output: InputStream of the CSV bytes
+     */
+    public InputStream openStream(long count) {
+        return new GeneratedStream(count);
+    }
+
+    /**
+     * Main method - Generate a CSV file
+     * Input: Output path, number of rows, optional seed and months of stock
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java InventoryDataGenerator output.csv rows [seed] [months]");
+            return;
+        }
+        long rows = Long.parseLong(args[1].replace("_", ""));
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int months = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+
+        long start = System.nanoTime();
+        new InventoryDataGenerator(seed, 2023, 3, months).writeCsv(args[0], rows);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long bytes = new File(args[0]).length();
+
+        System.out.println(String.format("Wrote %,d rows (%,d MB) in %.1f s, %.0f MB/s",
+                           rows, bytes >> 20, seconds, bytes / 1048576.0 / seconds));
+    }
+
+    /**
+     * Pick the fields of the next row
+     * Control Structure: if-else condition
+     */
+    private void nextRow() {
+        // One random long gives four 16-bit rolls (label, brand, status, day)
+        long bits = random.nextLong();
+        rowLabel = labelByRoll[roll(bits, 0, labelByRoll.length)];
+        rowBrand = brandByRoll[roll(bits, 16, brandByRoll.length)];
+        rowStatus = statusByRoll[roll(bits, 32, statusByRoll.length)];
+        rowDay = roll(bits, 48, DAYS_PER_MONTH);
+
+        // Control Structure: New stock is in the last month, Old stock in an earlier one
+        if (monthCount == 1) {
+            rowLabel = 1;
+            rowMonth = 0;
+        } else if (rowLabel == 1) {
+            rowMonth = monthCount - 1;
+        } else {
+            rowMonth = (monthCount == 2) ? 0 : random.nextInt(monthCount - 1);
+        }
+
+        // Control Structure: Next permutation value is A added digit by digit in base 36
+        // (no division; the carry out of the top digit is the "mod 36^10")
+        System.arraycopy(nextDigits, 0, rowDigits, 0, ENGINE_WIDTH);
+        int carry = 0;
+        for (int i = ENGINE_WIDTH - 1; i >= 0; i--) {
+            int digit = nextDigits[i] + multiplierDigits[i] + carry;
+            carry = (35 - digit) >>> 31;  // 1 when digit >= 36, without a branch
+            nextDigits[i] = (byte) (digit - 36 * carry);
+        }
+    }
+
+    /**
+     * Encode the current row into a buffer
+     * Input: Buffer, write position
+     * Output: Position after the row
+     */
+    private int encodeRow(byte[] buffer, int pos) {
+        pos = put(buffer, pos, prefixBytes[rowMonth][rowDay][rowBrand]);
+        for (int i = 0; i < ENGINE_WIDTH; i++) {
+            buffer[pos++] = DIGITS[rowDigits[i]];
+        }
+        return put(buffer, pos, suffixBytes[rowStatus]);
+    }
+
+    /**
+     * Map 16 bits of a random long onto 0 .. bound-1 (multiply-shift, no division)
+     * Input: Random bits, bit position, bound
+     */
+    private static int roll(long bits, int shift, int bound) {
+        return (int) ((((bits >>> shift) & 0xFFFF) * bound) >>> 16);
+    }
+
+    private static int put(byte[] buffer, int pos, byte[] value) {
+        System.arraycopy(value, 0, buffer, pos, value.length);
+        return pos + value.length;
+    }
+
+    /**
+     * Permutation value of a row index, (A * index + C) mod 36^10
+     */
+    private long engineValue(long index) {
+        return addMod(mulMod(multiplier, index % ENGINE_SPACE), offset);
+    }
+
+    /**
+     * Split a value below 36^10 into base-36 digits, most significant first
+     */
+    private static void toDigits(long value, byte[] digits) {
+        for (int i = ENGINE_WIDTH - 1; i >= 0; i--) {
+            digits[i] = (byte) (value % 36);
+            value /= 36;
+        }
+    }
+
+    /**
+     * Base-36 digits as ASCII characters
+     */
+    private static byte[] encodeDigits(byte[] digits) {
+        byte[] text = new byte[ENGINE_WIDTH];
+        for (int i = 0; i < ENGINE_WIDTH; i++) {
+            text[i] = DIGITS[digits[i]];
+        }
+        return text;
+    }
+
+    /**
+     * (a + b) mod 36^10 for a, b already below 36^10
+     */
+    private static long addMod(long a, long b) {
+        long sum = a + b;  // Below 2^53, cannot overflow
+        return sum >= ENGINE_SPACE ? sum - ENGINE_SPACE : sum;
+    }
+
+    /**
+     * (a * b) mod 36^10 without overflow (shift-and-add, b below 36^10)
+     * Control Structure: while loop
+     */
+    private static long mulMod(long a, long b) {
+        long result = 0;
+        long addend = a % ENGINE_SPACE;
+        while (b > 0) {
+            if ((b & 1) != 0) {
+                result = addMod(result, addend);
+            }
+            addend = addMod(addend, addend);
+            b >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Table mapping a roll of 0 .. sum(weights)-1 to a value code
+     * Control Structure: nested for loops
+     */
+    private static byte[] rollTable(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        byte[] table = new byte[total];
+        int slot = 0;
+        for (int code = 0; code < weights.length; code++) {
+            for (int i = 0; i < weights[code]; i++) {
+                table[slot++] = (byte) code;
+            }
+        }
+        return table;
+    }
+
+    private static long pow36(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 36;
+        }
+        return result;
+    }
+
+    /**
+     * GeneratedStream - CSV bytes produced a buffer at a time as they are read
+     */
+    private class GeneratedStream extends InputStream {
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private long rowsLeft;
+        private int pos;
+        private int limit;
+
+        GeneratedStream(long count) {
+            this.rowsLeft = count;
+            byte[] header = HEADER.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(header, 0, buffer, 0, header.length);
+            this.limit = header.length;
+        }
+
+        @Override
+        public int read() {
+            if (pos == limit && !refill()) {
+                return -1;
+            }
+            return buffer[pos++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] dest, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == limit && !refill()) {
+                return -1;
+            }
+            int n = Math.min(len, limit - pos);
+            System.arraycopy(buffer, pos, dest, off, n);
+            pos += n;
+            return n;
+        }
+
+        /**
+         * Generate the next buffer of rows
+         * Output: false when every row has been served
+         * Control Structure: while loop
+         */
+        private boolean refill() {
+            pos = 0;
+            limit = 0;
+            while (rowsLeft > 0 && limit <= BUFFER_SIZE - MAX_ROW_BYTES) {
+                nextRow();
+                limit = encodeRow(buffer, limit);
+                rowsLeft--;
+            }
+            return limit > 0;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * InventoryDate - Converts between "M/d/yyyy" text and a compact day number
+ * Demonstrates: hand-written parsing, integer date arithmetic
+ *
+ * WHY A DAY NUMBER:
+ * - As text, "10/1/2023" sorts before "2/1/2023" (character by character)
+ * - As days since 1970-01-01 (epoch day), dates compare with a single int compare
+ * - Range checks ("entered between X and Y") become two int comparisons
+ */
+public class InventoryDate {
+    // Variables - Marker for text that is not a valid M/d/yyyy date
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    // Days in each month of a non-leap year (index 1 = January)
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // Utility class - no instances
+    private InventoryDate() {
+    }
+
+    /**
+     * Parse a "M/d/yyyy" date (leading zeros and surrounding spaces allowed)
+     * Input: Date text
+     * Output: Epoch day, or INVALID
+     * Control Structure: for loop, if-else conditions
+     */
+    public static int parse(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+
+        int month = 0;
+        int day = 0;
+        int year = 0;
+        int value = 0;   // Number being read
+        int digits = 0;  // Digits read in the current number
+        int part = 0;    // 0 = month, 1 = day, 2 = year
+        int from = 0;
+        int to = text.length();
+
+        // Control Structure: Ignore surrounding whitespace
+        while (from < to && text.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && text.charAt(to - 1) <= ' ') {
+            to--;
+        }
+
+        // Control Structure: Read three numbers separated by '/'
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                // Control Structure: Reject absurdly long numbers before they overflow
+                if (++digits > 4) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == '/' && digits > 0 && part < 2) {
+                // Control Structure: Store the finished number
+                if (part == 0) {
+                    month = value;
+                } else {
+                    day = value;
+                }
+                part++;
+                value = 0;
+                digits = 0;
+            } else {
+                return INVALID;
+            }
+        }
+
+        if (part != 2 || digits == 0) {
+            return INVALID;
+        }
+        year = value;
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Convert a calendar date to an epoch day
+     * Input: Year, month (1-12), day of month
+     * Output: Days since 1970-01-01, or INVALID for impossible dates
+     * Control Structure: if conditions
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        // Control Structure: Validate month and day
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+
+        // Count from March so the leap day falls at the end of the year
+        int y = (month <= 2) ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Format an epoch day as "M/d/yyyy" (the CSV style, no leading zeros)
+     * Input: Epoch day
+     * Output: Date text, or an empty string for INVALID
+     */
+    public static String format(int epochDay) {
+        if (epochDay == INVALID) {
+            return "";
+        }
+        int[] civil = toCivil(epochDay);
+        return civil[1] + "/" + civil[2] + "/" + civil[0];
+    }
+
+    /**
+     * Year of an epoch day
+     */
+    public static int year(int epochDay) {
+        return toCivil(epochDay)[0];
+    }
+
+    /**
+     * Month (1-12) of an epoch day
+     */
+    public static int month(int epochDay) {
+        return toCivil(epochDay)[1];
+    }
+
+    /**
+     * Day of month of an epoch day
+     */
+    public static int dayOfMonth(int epochDay) {
+        return toCivil(epochDay)[2];
+    }
+
+    /**
+     * Last day of the month an epoch day falls in (e.g. 3/4/2023 -> 3/31/2023)
+     * Input: Epoch day
+     * Output: Epoch day, or INVALID for INVALID
+     */
+    public static int endOfMonth(int epochDay) {
+        if (epochDay == INVALID) {
+            return INVALID;
+        }
+        int[] civil = toCivil(epochDay);
+        return epochDay - civil[2] + daysInMonth(civil[0], civil[1]);
+    }
+
+    /**
+     * Check if a day lies inside an inclusive range
+     * Input: Epoch day, range start, range end
+     * Output: true if start <= day <= end and the day is valid
+     */
+    public static boolean isBetween(int epochDay, int start, int end) {
+        return epochDay != INVALID && epochDay >= start && epochDay <= end;
+    }
+
+    /**
+     * Number of days in a month
+     * Input: Year, month (1-12)
+     * Output: 28-31
+     */
+    private static int daysInMonth(int year, int month) {
+        if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * Convert an epoch day back to year, month, day
+     * Input: Epoch day
+     * Output: {year, month, day}
+     */
+    private static int[] toCivil(int epochDay) {
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return new int[] {year, month, day};
+    }
+}
@@ -0,0 +1,134 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * InventoryDelta - Brings a loaded inventory up to date with a new month's CSV
+ * Demonstrates: diffing by key, streaming updates, set difference
+ *
+ * Instead of throwing the inventory away and loading the new month from
+ * scratch, the new CSV is read once, row by row, and compared with the
+ * item that has the same engine number:
+ * - not in the inventory          -> inserted
+ * - status differs (e.g. Sold)    -> status changed
+ * - stock label differs (New->Old)-> stock label changed
+ * - same status and label         -> left alone (no work, no allocation kept)
+ * After the pass, items whose engine number did not appear in the new CSV
+ * are removed together, in one compaction pass for array-backed stores.
+ *
+ * Every change goes through the InventoryStore methods (add, setStatus,
+ * setStockLabel, removeAll), so the structure's counters, indexes and change
+ * journal stay in sync. Dates entered are not compared: an engine number's
+ * entry date does not change from one month to the next.
+ *
+ * COST: each CSV row needs up to three lookups by engine number (search,
+ * then setStatus and setStockLabel). Every store answers those from a hash
+ * index (EngineNumberIndex, or a map keyed by engine number), so a delta of
+ * m rows against n items is O(n + m), not O(n * m) as with linear searches.
+ *
+ * Usage: java InventoryDelta <current csv> <new month csv> [structure] [output file]
+ */
+public class InventoryDelta {
+
+    /**
+     * What a delta load changed
+     */
+    public static class Summary {
+        public long inserted;
+        public long statusChanges;
+        public long labelChanges;
+        public long removed;
+        public long unchanged;
+
+        @Override
+        public String toString() {
+            return "inserted " + inserted + ", status changes " + statusChanges
+                   + ", label changes " + labelChanges + ", removed " + removed
+                   + ", unchanged " + unchanged;
+        }
+    }
+
+    // Utility class - no instances
+    private InventoryDelta() {
+    }
+
+    /**
+     * Apply a new month's CSV to a loaded inventory
+     * Input: Path of the new CSV, inventory holding the previous month
+     * Output: Summary of the changes made
+     * Control Structure: callback with if-else conditions, for-each loops
+     */
+    public static Summary apply(String newCsvPath, InventoryStore store) throws IOException {
+        Summary summary = new Summary();
+        // Engine numbers present in the new month (case-insensitive, no upper-case copies)
+        EngineNumberIndex<String> seen = new EngineNumberIndex<>();
+
+        // Control Structure: One streaming pass over the new file
+        InventoryCSVReader.load(newCsvPath, row -> {
+            String engine = row.getEngineNumber();
+            seen.put(engine, engine);
+            InventoryItem current = store.searchByEngineNumber(engine);
+
+            // Control Structure: New engine number - insert the row as it is
+            if (current == null) {
+                store.add(row);
+                summary.inserted++;
+                return true;
+            }
+
+            boolean changed = false;
+            if (current.getStatusId() != row.getStatusId()) {
+                store.setStatus(engine, row.getStatus());
+                summary.statusChanges++;
+                changed = true;
+            }
+            if (current.getLabelId() != row.getLabelId()) {
+                store.setStockLabel(engine, row.getStockLabel());
+                summary.labelChanges++;
+                changed = true;
+            }
+            if (!changed) {
+                summary.unchanged++;
+            }
+            return true;
+        });
+
+        // Control Structure: Items missing from the new month are removed
+        // (collected first - a store must not change while it is iterated)
+        List<String> gone = new ArrayList<>();
+        for (InventoryItem item : store) {
+            if (seen.get(item.getEngineNumber()) == null) {
+                gone.add(item.getEngineNumber());
+            }
+        }
+        summary.removed = store.removeAll(gone);  // One pass, not one shift per item
+        return summary;
+    }
+
+    /**
+     * Main method - Load a month, apply the next month as a delta and
+     * optionally save the updated inventory
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java InventoryDelta <current csv> <new month csv> [structure] [output file]");
+            return;
+        }
+        String type = args.length > 2 ? args[2] : "concurrent";
+
+        InventoryStore store = InventoryStore.create(type);
+        store.loadInventoryFromCSV(args[0]);
+
+        long start = System.nanoTime();
+        Summary summary = apply(args[1], store);
+        double deltaMs = (System.nanoTime() - start) / 1e6;
+        System.out.println(String.format("Delta applied in %.1f ms: %s", deltaMs, summary));
+        System.out.println("Inventory now holds " + store.size() + " items.");
+
+        // Control Structure: Optionally save the updated inventory (same layout as the input)
+        if (args.length > 3) {
+            long written = InventoryExporter.export(store, null, InventoryExporter.Format.CSV, args[3]);
+            System.out.println("Wrote " + written + " items to " + args[3]);
+        }
+    }
+}
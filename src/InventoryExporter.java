@@ -0,0 +1,377 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * InventoryExporter - Writes inventory items, or just the ones matching a filter, to a file
+ * Demonstrates: streaming output, NIO channels, hand-written CSV/JSON encoding
+ *
+ * FORMATS:
+ * - CSV: the same layout as the input file (two header lines, then
+ *   Date Entered,Stock Label,Brand,Engine Number,Status), so an export can be
+ *   loaded again like the original
+ * - JSONL: one JSON object per line, e.g.
+ *   {"dateEntered":"2/1/2023","stockLabel":"Old","brand":"Honda","engineNumber":"142QVTSIUR","status":"On-hand"}
+ * - BINARY: the InventorySnapshot format (fixed 18-byte records), readable
+ *   with InventorySnapshot.read
+ *
+ * STREAMING:
+ * - Items are filtered and written one at a time while the source is being
+ *   iterated - the matching items are never collected into a list first
+ * - Text is encoded by hand into one 1 MB direct buffer that is handed to
+ *   the FileChannel whenever it fills up (no Writer, no per-row Strings)
+ * - Files are written under a temporary name and renamed when complete, so
+ *   a reader (e.g. a nightly reconciliation job) never sees half an export
+ *
+ * Usage: java InventoryExporter <inventory csv> <output file> [csv|jsonl|binary]
+ *                               [brand=...] [status=...] [label=...]
+ */
+public class InventoryExporter {
+    // Variables - Output formats and buffering
+    public enum Format { CSV, JSONL, BINARY }
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final String CSV_HEADER =
+        "Date when the stock is entered into inventory,Status of the stock in relation to previous month's inventory data,"
+        + "Stock's brand,Stock's Engine number,Stock's purchase status\n"
+        + "Date Entered,Stock Label,Brand,Engine Number,Status\n";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    // Constructor - text output to an open channel
+    private InventoryExporter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Export the items that pass a filter to a file
+     * Input: Items (any InventoryStore or collection), filter (null = all),
+     *        format, output path
+     * Output: Number of items written
+     * Control Structure: if-else, try-catch
+     */
+    public static long export(Iterable<InventoryItem> items, Predicate<? super InventoryItem> filter,
+                              Format format, String path) throws IOException {
+        Path target = Paths.get(path);
+        Path temp = Paths.get(path + ".tmp");
+        long written;
+
+        try {
+            // Control Structure: Binary goes through the snapshot writer, text through the channel
+            if (format == Format.BINARY) {
+                CountingIterable matching = new CountingIterable(items, filter);
+                InventorySnapshot.write(temp.toString(), matching);
+                written = matching.count;
+            } else {
+                try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    written = write(items, filter, format, file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return written;
+    }
+
+    /**
+     * Write the items that pass a filter to an open channel as CSV or JSONL
+     * (e.g. Channels.newChannel(System.out) to pipe an export)
+     * Input: Items, filter (null = all), CSV or JSONL, channel (left open)
+     * Output: Number of items written
+     * Control Structure: for-each loop, if conditions
+     */
+    public static long write(Iterable<InventoryItem> items, Predicate<? super InventoryItem> filter,
+                             Format format, WritableByteChannel channel) throws IOException {
+        if (format == Format.BINARY) {
+            throw new IllegalArgumentException("Binary exports need a file - use export()");
+        }
+        InventoryExporter out = new InventoryExporter(channel);
+        long written = 0;
+
+        if (format == Format.CSV) {
+            out.putAscii(CSV_HEADER);
+        }
+
+        // Control Structure: One row per matching item, straight into the buffer
+        for (InventoryItem item : items) {
+            if (filter != null && !filter.test(item)) {
+                continue;
+            }
+            if (format == Format.CSV) {
+                out.csvRow(item);
+            } else {
+                out.jsonRow(item);
+            }
+            written++;
+        }
+        out.drain();
+        return written;
+    }
+
+    /**
+     * Filter on any combination of brand, status and stock label
+     * Input: Values to match (letter case ignored), null for "any"
+     * Output: Predicate for export()
+     */
+    public static Predicate<InventoryItem> matching(String brand, String status, String label) {
+        // Values are looked up once here; each item then costs int compares
+        int brandId = ValueIds.find(brand);
+        int statusId = ValueIds.find(status);
+        int labelId = ValueIds.find(label);
+        return item -> (brand == null || item.getBrandId() == brandId)
+                       && (status == null || item.getStatusId() == statusId)
+                       && (label == null || item.getLabelId() == labelId);
+    }
+
+    // Row encoders
+    private void csvRow(InventoryItem item) throws IOException {
+        csvField(item.getDateEntered());
+        put(',');
+        csvField(item.getStockLabel());
+        put(',');
+        csvField(item.getBrand());
+        put(',');
+        csvField(item.getEngineNumber());
+        put(',');
+        csvField(item.getStatus());
+        put('\n');
+    }
+
+    private void jsonRow(InventoryItem item) throws IOException {
+        putAscii("{\"dateEntered\":");
+        jsonString(item.getDateEntered());
+        putAscii(",\"stockLabel\":");
+        jsonString(item.getStockLabel());
+        putAscii(",\"brand\":");
+        jsonString(item.getBrand());
+        putAscii(",\"engineNumber\":");
+        jsonString(item.getEngineNumber());
+        putAscii(",\"status\":");
+        jsonString(item.getStatus());
+        putAscii("}\n");
+    }
+
+    /**
+     * Write a CSV value; values holding a comma, quote or line break are
+     * quoted (never the case for MotorPH data, so the layout stays plain)
+     * Control Structure: for loops, if condition
+     */
+    private void csvField(String value) throws IOException {
+        String text = value == null ? "" : value;
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            putText(text);
+            return;
+        }
+        put('"');
+        for (int i = 0; i < text.length(); ) {
+            if (text.charAt(i) == '"') {
+                put('"');  // Quotes are doubled inside a quoted value
+            }
+            i += putChar(text, i);
+        }
+        put('"');
+    }
+
+    /**
+     * Write a JSON string literal with the required escapes
+     * Control Structure: for loop, switch-case
+     */
+    private void jsonString(String value) throws IOException {
+        if (value == null) {
+            putAscii("null");
+            return;
+        }
+        put('"');
+        for (int i = 0; i < value.length(); ) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': putAscii("\\\""); break;
+                case '\\': putAscii("\\\\"); break;
+                case '\n': putAscii("\\n"); break;
+                case '\r': putAscii("\\r"); break;
+                case '\t': putAscii("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        putAscii("\\u00");
+                        put(HEX[c >> 4]);
+                        put(HEX[c & 0xF]);
+                    } else {
+                        i += putChar(value, i);
+                        continue;
+                    }
+            }
+            i++;
+        }
+        put('"');
+    }
+
+    // Byte output - ASCII goes straight into the buffer, anything else as UTF-8
+    private void putText(String text) throws IOException {
+        for (int i = 0; i < text.length(); ) {
+            i += putChar(text, i);
+        }
+    }
+
+    /**
+     * Write the character at a position as UTF-8
+     * Input: Text, position
+     * Output: Number of chars used (2 for a surrogate pair)
+     */
+    private int putChar(String text, int i) throws IOException {
+        char c = text.charAt(i);
+        if (c < 0x80) {
+            put(c);
+            return 1;
+        }
+        int used = Character.charCount(text.codePointAt(i));
+        for (byte b : text.substring(i, i + used).getBytes(StandardCharsets.UTF_8)) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put(b);
+        }
+        return used;
+    }
+
+    private void putAscii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            put(text.charAt(i));
+        }
+    }
+
+    private void put(char c) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) c);
+    }
+
+    /**
+     * Hand the buffered bytes to the channel
+     * Control Structure: while loop (a channel may take part of the buffer)
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Filtered view of some items that counts what it hands out
+     * (lets the binary writer stream the matches without a list)
+     */
+    private static class CountingIterable implements Iterable<InventoryItem> {
+        private final Iterable<InventoryItem> source;
+        private final Predicate<? super InventoryItem> filter;
+        private long count;
+
+        CountingIterable(Iterable<InventoryItem> source, Predicate<? super InventoryItem> filter) {
+            this.source = source;
+            this.filter = filter;
+        }
+
+        @Override
+        public Iterator<InventoryItem> iterator() {
+            Iterator<InventoryItem> it = source.iterator();
+            count = 0;
+            return new Iterator<InventoryItem>() {
+                private InventoryItem next = advance();
+
+                private InventoryItem advance() {
+                    while (it.hasNext()) {
+                        InventoryItem item = it.next();
+                        if (filter == null || filter.test(item)) {
+                            return item;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public InventoryItem next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    InventoryItem item = next;
+                    next = advance();
+                    count++;
+                    return item;
+                }
+            };
+        }
+    }
+
+    /**
+     * Main method - Export a CSV inventory, optionally filtered
+     * The inventory is held in a ColumnarInventoryStore (under 50 bytes per
+     * item, engine number index and spare capacity included), so even very large files export
+     * without a list of items
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java InventoryExporter <inventory csv> <output file> [csv|jsonl|binary]"
+                               + " [brand=...] [status=...] [label=...]");
+            return;
+        }
+        Format format = args.length > 2 ? Format.valueOf(args[2].toUpperCase()) : Format.CSV;
+        String brand = null;
+        String status = null;
+        String label = null;
+
+        // Control Structure: key=value filters in any order
+        for (int i = 3; i < args.length; i++) {
+            String[] pair = args[i].split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value: " + args[i]);
+            }
+            switch (pair[0].toLowerCase()) {
+                case "brand": brand = pair[1]; break;
+                case "status": status = pair[1]; break;
+                case "label": label = pair[1]; break;
+                default: throw new IllegalArgumentException("Unknown filter: " + pair[0]);
+            }
+        }
+
+        ColumnarInventoryStore store = new ColumnarInventoryStore();
+        store.loadInventoryFromCSV(args[0]);
+
+        long start = System.nanoTime();
+        long written = export(store, matching(brand, status, label), format, args[1]);
+        System.out.println(String.format("Exported %d items to %s (%s) in %.1f ms",
+                           written, args[1], format, (System.nanoTime() - start) / 1e6));
+    }
+}
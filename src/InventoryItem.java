@@ -4,45 +4,83 @@
 public class InventoryItem {
     // Instance variables
     private String dateEntered;
+    private int dateValue;  // dateEntered as an epoch day (InventoryDate.INVALID if unreadable)
     private String stockLabel;
     private String brand;
     private String engineNumber;
-    private String status;
+    private volatile String status;  // volatile: ConcurrentInventory changes it from other threads
+    
+    // ValueIds of brand, label and status (set with the text, so filters compare ints)
+    private int brandId;
+    private int labelId;
+    private volatile int statusId;
     
     // Constructor
     public InventoryItem(String dateEntered, String stockLabel, String brand, 
                          String engineNumber, String status) {
         this.dateEntered = dateEntered;
+        this.dateValue = InventoryDate.parse(dateEntered);  // Parsed once, compared as an int
+        this.stockLabel = stockLabel;
+        this.brand = brand;
+        this.engineNumber = engineNumber;
+        this.status = status;
+        this.labelId = ValueIds.of(stockLabel);  // Looked up once here, not on every filter
+        this.brandId = ValueIds.of(brand);
+        this.statusId = ValueIds.of(status);
+    }
+    
+    // Constructor for loaders that already know the epoch day of dateEntered
+    public InventoryItem(String dateEntered, int dateValue, String stockLabel, String brand,
+                         String engineNumber, String status) {
+        this.dateEntered = dateEntered;
+        this.dateValue = dateValue;
         this.stockLabel = stockLabel;
         this.brand = brand;
         this.engineNumber = engineNumber;
         this.status = status;
+        this.labelId = ValueIds.of(stockLabel);  // Looked up once here, not on every filter
+        this.brandId = ValueIds.of(brand);
+        this.statusId = ValueIds.of(status);
     }
     
     // Getters
     public String getDateEntered() { return dateEntered; }
+    public int getDateValue() { return dateValue; }
     public String getStockLabel() { return stockLabel; }
     public String getBrand() { return brand; }
     public String getEngineNumber() { return engineNumber; }
     public String getStatus() { return status; }
+    public int getBrandId() { return brandId; }
+    public int getLabelId() { return labelId; }
+    public int getStatusId() { return statusId; }
     
     // Setters
-    public void setDateEntered(String dateEntered) { this.dateEntered = dateEntered; }
-    public void setStockLabel(String stockLabel) { this.stockLabel = stockLabel; }
-    public void setBrand(String brand) { this.brand = brand; }
+    public void setDateEntered(String dateEntered) {
+        this.dateEntered = dateEntered;
+        this.dateValue = InventoryDate.parse(dateEntered);
+    }
+    public void setStockLabel(String stockLabel) {
+        this.stockLabel = stockLabel;
+        this.labelId = ValueIds.of(stockLabel);
+    }
+    public void setBrand(String brand) {
+        this.brand = brand;
+        this.brandId = ValueIds.of(brand);
+    }
     public void setEngineNumber(String engineNumber) { this.engineNumber = engineNumber; }
-    public void setStatus(String status) { this.status = status; }
+    public void setStatus(String status) {
+        this.statusId = ValueIds.of(status);
+        this.status = status;
+    }
     
-    // toString method for display
+    // toString method for display (fixed-width columns, padded by InventoryRenderer)
     @Override
     public String toString() {
-        return String.format("%-12s | %-10s | %-10s | %-14s | %-8s", 
-                             dateEntered, stockLabel, brand, engineNumber, status);
+        return InventoryRenderer.appendRow(new StringBuilder(64), this).toString();
     }
     
     // Display header for toString format
     public static String getHeader() {
-        return String.format("%-12s | %-10s | %-10s | %-14s | %-8s", 
-                             "Date", "Stock Label", "Brand", "Engine Number", "Status");
+        return InventoryRenderer.appendHeader(new StringBuilder(64)).toString();
     }
 }
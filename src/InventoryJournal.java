@@ -0,0 +1,422 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * InventoryJournal - Append-only log of inventory changes for crash recovery
+ * Demonstrates: write-ahead logging, group commit, checksums, background threads
+ *
+ * WHAT IS LOGGED:
+ * - Every add, remove, status and stock label change made after the inventory was
+ *   loaded from its CSV (or snapshot), identified by engine number
+ * - On the next start the CSV is loaded again and the journal is replayed
+ *   on top of it through the InventoryStore methods, so any structure can
+ *   recover a journal written by any other
+ *
+ * GROUP COMMIT (why logging costs microseconds, not milliseconds):
+ * - A change is encoded into an in-memory buffer under a short lock and the
+ *   caller continues immediately
+ * - A background thread writes everything buffered so far in one write and
+ *   makes it durable with one fsync (force), at least every FLUSH_INTERVAL_MS
+ * - Many changes share one fsync; sync() waits until everything recorded
+ *   so far is on disk (use it where a change must not be lost, e.g. on exit)
+ *
+ * FILE LAYOUT:
+ * - Header: magic "MPHJ", version, length and modification time of the CSV
+ *   the journal builds on (a journal for another CSV version is set aside)
+ * - Records: payload length, payload (operation + fields), CRC32 of the payload
+ * - A record cut short by a crash fails its length or checksum test; replay
+ *   stops there and the torn tail is cut off
+ */
+public class InventoryJournal implements Closeable {
+    // Variables - Format constants
+    private static final int MAGIC = 0x4D50484A;  // "MPHJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int MAX_RECORD = 64 * 1024;
+    private static final byte OP_ADD = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_STATUS = 3;
+    private static final byte OP_LABEL = 4;
+
+    // Variables - Group commit tuning
+    private static final long FLUSH_INTERVAL_MS = 5;       // Longest wait before buffered records are synced
+    private static final int FLUSH_THRESHOLD = 256 * 1024;  // Buffered bytes that trigger an early flush
+
+    private final FileChannel channel;
+    private final Thread flusher;
+    private final CRC32 crc = new CRC32();  // Used only under the lock
+    private byte[] pending;                 // Encoded records not yet handed to the flusher
+    private int pendingLength;
+    private long recordedBytes;             // Bytes recorded since opening
+    private long durableBytes;              // Bytes written and forced to disk
+    private IOException failure;            // First write error, reported to every later caller
+    private boolean closed;
+
+    /**
+     * Open a journal for appending (use open() to replay it first)
+     * Input: Journal path, length and modification time of the base CSV
+     */
+    private InventoryJournal(String path, long baseLength, long baseModified) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        // Control Structure: New file - write the header
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(baseLength).putLong(baseModified).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(false);
+        }
+        channel.position(channel.size());
+
+        this.pending = new byte[FLUSH_THRESHOLD * 2];
+        this.flusher = new Thread(this::flushLoop, "inventory-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Recover an inventory and start journaling its changes
+     * 1. Replay the journal (if any) on top of the freshly loaded store
+     * 2. Attach the journal so every later change is recorded
+     * A journal written for a different version of the CSV is renamed to
+     * ".stale" instead of being replayed onto the wrong data; so is a journal
+     * without a complete header (a crash right after the file was created).
+     * Input: Journal path, CSV file the store was loaded from, loaded store
+     * Output: Open journal (close it when done)
+     * Control Structure: if conditions
+     */
+    public static InventoryJournal open(String path, String csvPath, InventoryStore store) throws IOException {
+        File csv = new File(csvPath);
+        File file = new File(path);
+
+        // Control Structure: Only replay a complete journal that builds on this exact CSV
+        if (file.isFile() && (file.length() < HEADER_SIZE || !isFor(file, csv))) {
+            Files.move(file.toPath(), Paths.get(path + ".stale"), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Journal is incomplete or was written for another version of the CSV - moved to "
+                               + path + ".stale");
+        }
+        if (file.isFile()) {
+            int replayed = replay(path, store);
+            if (replayed > 0) {
+                System.out.println("Recovered " + replayed + " changes from journal.");
+            }
+        }
+
+        InventoryJournal journal = new InventoryJournal(path, csv.length(), csv.lastModified());
+        store.attachJournal(journal);
+        return journal;
+    }
+
+    // Record changes (called by the structures after the change was applied in memory)
+    public void recordAdd(InventoryItem item) {
+        append(OP_ADD, item.getDateEntered(), item.getStockLabel(), item.getBrand(),
+               item.getEngineNumber(), item.getStatus());
+    }
+
+    public void recordRemove(String engineNumber) {
+        append(OP_REMOVE, engineNumber);
+    }
+
+    public void recordStatus(String engineNumber, String newStatus) {
+        append(OP_STATUS, engineNumber, newStatus);
+    }
+
+    public void recordLabel(String engineNumber, String newLabel) {
+        append(OP_LABEL, engineNumber, newLabel);
+    }
+
+    /**
+     * Wait until every change recorded so far is on disk
+     * Control Structure: while loop (wait for the flusher)
+     */
+    public void sync() throws IOException {
+        synchronized (this) {
+            long target = recordedBytes;
+            notifyAll();  // Wake the flusher now instead of at the end of its interval
+            while (durableBytes < target && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for the journal");
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Sync and close the journal
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            synchronized (this) {
+                closed = true;
+                notifyAll();
+            }
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * Apply every complete record of a journal to a store
+     * A torn or corrupt tail (from a crash mid-write) ends the replay and is
+     * cut off, so new records continue after the last good one
+     * Input: Journal path, store to apply the changes to
+     * Output: Number of records applied
+     * Control Structure: while loop, switch-case
+     */
+    public static int replay(String path, InventoryStore store) throws IOException {
+        try (FileChannel file = FileChannel.open(Paths.get(path), StandardOpenOption.READ,
+                                                 StandardOpenOption.WRITE)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                java.nio.channels.Channels.newInputStream(file), 1 << 16));
+            if (file.size() < HEADER_SIZE || in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an inventory journal: " + path);
+            }
+            in.readLong();  // Base CSV length and modification time (checked by open)
+            in.readLong();
+
+            long goodEnd = HEADER_SIZE;
+            int applied = 0;
+            CRC32 check = new CRC32();
+            byte[] payload = new byte[MAX_RECORD];
+
+            // Control Structure: Read records until the end or the first damaged one
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD) {
+                        break;
+                    }
+                    in.readFully(payload, 0, length);
+                    check.reset();
+                    check.update(payload, 0, length);
+                    if (in.readInt() != (int) check.getValue()) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;  // Clean end, or a record cut short
+                }
+
+                apply(payload, length, store);
+                applied++;
+                goodEnd += 4 + length + 4;
+            }
+
+            // Control Structure: Drop a torn tail so appends start on a record boundary
+            if (file.size() > goodEnd) {
+                file.truncate(goodEnd);
+                file.force(false);
+            }
+            return applied;
+        }
+    }
+
+    /**
+     * Check if a journal builds on the current version of a CSV file
+     */
+    private static boolean isFor(File journal, File csv) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(journal))) {
+            return in.readInt() == MAGIC
+                   && in.readInt() == VERSION
+                   && in.readLong() == csv.length()
+                   && in.readLong() == csv.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Decode one record and apply it through the InventoryStore methods
+     * Input: Payload bytes, payload length, store
+     * Control Structure: switch-case
+     */
+    private static void apply(byte[] payload, int length, InventoryStore store) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+        byte op = in.readByte();
+        switch (op) {
+            case OP_ADD:
+                store.add(new InventoryItem(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF()));
+                break;
+            case OP_REMOVE:
+                store.remove(in.readUTF());
+                break;
+            case OP_STATUS:
+                store.setStatus(in.readUTF(), in.readUTF());
+                break;
+            case OP_LABEL:
+                store.setStockLabel(in.readUTF(), in.readUTF());
+                break;
+            default:
+                throw new IOException("Unknown journal operation " + op);
+        }
+    }
+
+    /**
+     * Encode a record into the pending buffer: length, payload, CRC32
+     * Fields are written like DataOutputStream.writeUTF (2-byte length, then
+     * the text) - engine numbers, brands and statuses are plain ASCII
+     * Input: Operation, field texts
+     * Control Structure: for-each loop, if conditions
+     */
+    private void append(byte op, String... fields) {
+        byte[][] encoded = new byte[fields.length][];
+        int payloadLength = 1;
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = modifiedUtf8(fields[i]);
+            payloadLength += 2 + encoded[i].length;
+        }
+
+        synchronized (this) {
+            // Control Structure: A journal that failed or closed must not pretend to record
+            if (failure != null) {
+                throw new UncheckedIOException("Inventory journal failed", failure);
+            }
+            if (closed) {
+                throw new IllegalStateException("Inventory journal is closed");
+            }
+
+            int needed = 4 + payloadLength + 4;
+            if (pendingLength + needed > pending.length) {
+                byte[] bigger = new byte[Math.max(pending.length * 2, pendingLength + needed)];
+                System.arraycopy(pending, 0, bigger, 0, pendingLength);
+                pending = bigger;
+            }
+
+            int pos = putInt(pending, pendingLength, payloadLength);
+            int payloadStart = pos;
+            pending[pos++] = op;
+            for (byte[] field : encoded) {
+                pending[pos++] = (byte) (field.length >>> 8);
+                pending[pos++] = (byte) field.length;
+                System.arraycopy(field, 0, pending, pos, field.length);
+                pos += field.length;
+            }
+            crc.reset();
+            crc.update(pending, payloadStart, payloadLength);
+            pos = putInt(pending, pos, (int) crc.getValue());
+
+            pendingLength = pos;
+            recordedBytes += needed;
+
+            // Control Structure: Large backlog - flush now rather than at the interval
+            if (pendingLength >= FLUSH_THRESHOLD) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Background loop: take the pending buffer, write it and force it to disk
+     * Control Structure: while loop, try-catch
+     */
+    private void flushLoop() {
+        byte[] spare = new byte[pending.length];
+
+        while (true) {
+            byte[] batch;
+            int batchLength;
+            long batchEnd;
+
+            synchronized (this) {
+                // Control Structure: Sleep until there is work, a sync request or a close
+                if (pendingLength == 0 && !closed) {
+                    try {
+                        wait(FLUSH_INTERVAL_MS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendingLength == 0) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                // Swap buffers: appenders keep filling a fresh one while this batch is written
+                batch = pending;
+                batchLength = pendingLength;
+                batchEnd = recordedBytes;
+                pending = spare.length >= FLUSH_THRESHOLD * 2 ? spare : new byte[FLUSH_THRESHOLD * 2];
+                pendingLength = 0;
+            }
+
+            try {
+                ByteBuffer out = ByteBuffer.wrap(batch, 0, batchLength);
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(false);  // One fsync for the whole batch
+                synchronized (this) {
+                    durableBytes = batchEnd;
+                    notifyAll();
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    failure = e;
+                    notifyAll();
+                }
+                return;
+            }
+            spare = batch;
+        }
+    }
+
+    /**
+     * Text in the 2-byte-length format read back by DataInputStream.readUTF
+     * Control Structure: for loop (plain ASCII is copied directly)
+     */
+    private static byte[] modifiedUtf8(String text) {
+        int length = text.length();
+        byte[] ascii = new byte[length];
+        boolean plain = length < 0x10000;
+        for (int i = 0; i < length && plain; i++) {
+            char c = text.charAt(i);
+            plain = c >= 1 && c < 0x80;
+            ascii[i] = (byte) c;
+        }
+        if (plain) {
+            return ascii;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length() + 2);
+        try {
+            new DataOutputStream(bytes).writeUTF(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // Only for text over 64 KB
+        }
+        byte[] withLength = bytes.toByteArray();
+        byte[] body = new byte[withLength.length - 2];
+        System.arraycopy(withLength, 2, body, 0, body.length);
+        return body;
+    }
+
+    private static int putInt(byte[] buffer, int pos, int value) {
+        buffer[pos] = (byte) (value >>> 24);
+        buffer[pos + 1] = (byte) (value >>> 16);
+        buffer[pos + 2] = (byte) (value >>> 8);
+        buffer[pos + 3] = (byte) value;
+        return pos + 4;
+    }
+}
@@ -0,0 +1,160 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Scanner;
+
+/**
+ * InventoryRenderer - Prints inventory tables in large blocks, one page at a time
+ * Demonstrates: output buffering, hand-written fixed-width formatting, paging
+ *
+ * WHY NOT println PER ROW:
+ * - String.format parses its pattern again for every row, and each println
+ *   on the console is a separate write (and flush) to the terminal
+ * - Here every row is padded by hand into one reusable buffer, and the
+ *   buffer is written out only when it holds BLOCK_SIZE characters or a
+ *   page ends - thousands of rows per write
+ *
+ * PAGING:
+ * - After every pageSize rows the user is asked whether to continue, so a
+ *   huge inventory is not dumped in full by accident
+ * - Pass no Scanner (or a page size of 0) to print everything, e.g. when
+ *   the output is redirected to a file
+ *
+ * The row layout is the one used by InventoryItem.toString and getHeader.
+ */
+public class InventoryRenderer {
+    // Variables - Layout and buffering
+    public static final int PAGE_SIZE = 100;
+    private static final int BLOCK_SIZE = 64 * 1024;          // Characters per write
+    private static final int[] WIDTHS = {12, 10, 10, 14, 8};  // Date, label, brand, engine, status
+    private static final String SEPARATOR = " | ";
+    private static final String RULE = "=".repeat(80);
+    private static final String NEWLINE = System.lineSeparator();
+    private static final char[] SPACES = " ".repeat(16).toCharArray();
+
+    private final Scanner pager;              // Source of "next page" answers (null = no paging)
+    private final int pageSize;
+    private final StringBuilder buffer;       // Reused for every table
+
+    // Constructors
+    public InventoryRenderer(Scanner pager) {
+        this(pager, PAGE_SIZE);
+    }
+
+    public InventoryRenderer(Scanner pager, int pageSize) {
+        this.pager = pager;
+        this.pageSize = pageSize;
+        this.buffer = new StringBuilder(BLOCK_SIZE + 256);
+    }
+
+    /**
+     * Print the column header, a rule and numbered rows ("1. ...")
+     * Input: Items in display order
+     * Output: Number of rows printed (fewer if the user stopped paging)
+     * Control Structure: while loop, if conditions
+     */
+    public int printTable(Iterable<InventoryItem> items) {
+        int total = items instanceof Collection ? ((Collection<?>) items).size() : -1;
+        buffer.setLength(0);
+        appendHeader(buffer).append(NEWLINE).append(RULE).append(NEWLINE);
+
+        Iterator<InventoryItem> it = items.iterator();
+        int shown = 0;
+
+        // Control Structure: Format rows into the buffer, writing it out in blocks
+        while (it.hasNext()) {
+            shown++;
+            buffer.append(shown).append(". ");
+            appendRow(buffer, it.next()).append(NEWLINE);
+
+            if (buffer.length() >= BLOCK_SIZE) {
+                flush();
+            }
+
+            // Control Structure: End of a page with more rows to come - ask before going on
+            if (paging() && shown % pageSize == 0 && it.hasNext() && !nextPage(shown, total)) {
+                break;
+            }
+        }
+        flush();
+        return shown;
+    }
+
+    /**
+     * Append one row in the table layout
+     * Input: Target buffer, item
+     * Output: The same buffer
+     */
+    public static StringBuilder appendRow(StringBuilder out, InventoryItem item) {
+        appendCell(out, item.getDateEntered(), 0);
+        appendCell(out, item.getStockLabel(), 1);
+        appendCell(out, item.getBrand(), 2);
+        appendCell(out, item.getEngineNumber(), 3);
+        return appendCell(out, item.getStatus(), 4);
+    }
+
+    /**
+     * Append the column header in the table layout
+     * Input: Target buffer
+     * Output: The same buffer
+     */
+    public static StringBuilder appendHeader(StringBuilder out) {
+        appendCell(out, "Date", 0);
+        appendCell(out, "Stock Label", 1);
+        appendCell(out, "Brand", 2);
+        appendCell(out, "Engine Number", 3);
+        return appendCell(out, "Status", 4);
+    }
+
+    /**
+     * Append a value left-aligned and padded to its column width (like %-12s:
+     * longer values are kept whole), preceded by the separator after column 0
+     * Input: Buffer, value, column number
+     * Output: The same buffer
+     * Control Structure: while loop (pad in chunks of spaces)
+     */
+    private static StringBuilder appendCell(StringBuilder out, String value, int column) {
+        if (column > 0) {
+            out.append(SEPARATOR);
+        }
+        String text = String.valueOf(value);
+        out.append(text);
+
+        int padding = WIDTHS[column] - text.length();
+        while (padding > 0) {
+            int chunk = Math.min(padding, SPACES.length);
+            out.append(SPACES, 0, chunk);
+            padding -= chunk;
+        }
+        return out;
+    }
+
+    /**
+     * Ask whether to print the next page
+     * Input: Rows shown so far, total rows (-1 if unknown)
+     * Output: true to continue
+     */
+    private boolean nextPage(int shown, int total) {
+        flush();
+        String of = total >= 0 ? " of " + total : "";
+        System.out.print("-- Shown " + shown + of + " items. Press Enter for more, or q to stop: ");
+        if (!pager.hasNextLine()) {
+            return false;
+        }
+        return !pager.nextLine().trim().equalsIgnoreCase("q");
+    }
+
+    private boolean paging() {
+        return pager != null && pageSize > 0;
+    }
+
+    /**
+     * Write the buffered text in one call and empty the buffer
+     */
+    private void flush() {
+        if (buffer.length() > 0) {
+            System.out.append(buffer);
+            System.out.flush();
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * InventorySnapshot - Binary copy of an inventory that loads without CSV parsing
+ * Demonstrates: binary file formats, fixed-width records, dictionary encoding, memory mapping
+ *
+ * FILE LAYOUT (all numbers big-endian):
+ * - Header (44 bytes): magic "MPHS", version, source CSV length and
+ *   modification time, record count, offset of the extras, offset of the
+ *   dictionaries
+ * - Records, RECORD_SIZE (18) bytes each, in the original row order:
+ *     brand code, label code, status code (1 byte each, see dictionaries)
+ *     flags (1 byte), date as epoch day (4 bytes), engine number (10 ASCII bytes)
+ * - Extras: rows whose date text or engine number does not fit the record
+ *   (a date that does not print back the same, an engine number that is not
+ *   10 ASCII characters) keep their original text here
+ * - Dictionaries: the distinct brand, label and status texts, in code order
+ *
+ * WHY IT IS FAST TO LOAD:
+ * - Records are read straight out of a memory-mapped file: no line
+ *   splitting, no date parsing, and brand/label/status Strings are shared
+ *   from the dictionaries instead of being created per row
+ * - Only the engine number String is created per item
+ *
+ * CACHING: loadCached reads "file.csv.snapshot" when it was written from
+ * the current version of "file.csv" (same length and modification time),
+ * and otherwise parses the CSV and writes a fresh snapshot for next time.
+ */
+public class InventorySnapshot {
+    // Variables - Format constants
+    public static final String EXTENSION = ".snapshot";
+    private static final int MAGIC = 0x4D504853;  // "MPHS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 44;
+    private static final int RECORD_SIZE = 18;
+    private static final int ENGINE_WIDTH = 10;
+    private static final int MAX_CODES = 256;     // Codes are stored in one byte
+    private static final int FLAG_RAW_DATE = 1;
+    private static final int FLAG_RAW_ENGINE = 2;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int RECORDS_PER_MAP = (256 << 20) / RECORD_SIZE;  // Maps stay far below 2 GB
+
+    // Utility class - no instances
+    private InventorySnapshot() {
+    }
+
+    /**
+     * Load a CSV file, using its snapshot when the snapshot is up to date
+     * Input: CSV file path, sink that stores the items
+     * Output: Number of items accepted by the sink
+     * Control Structure: if conditions, try-catch
+     */
+    public static int loadCached(String csvPath, ItemSink sink) throws IOException {
+        File csv = new File(csvPath);
+        File snapshot = new File(csvPath + EXTENSION);
+
+        // Control Structure: Fast path - snapshot written from this exact CSV
+        if (isCurrent(snapshot, csv)) {
+            return read(snapshot.getPath(), sink);
+        }
+
+        // Parse the CSV, keeping references to the items for the snapshot
+        List<InventoryItem> items = new ArrayList<>();
+        boolean[] stopped = {false};
+        int count = InventoryCSVReader.load(csvPath, item -> {
+            items.add(item);
+            if (!sink.accept(item)) {
+                stopped[0] = true;
+                return false;
+            }
+            return true;
+        });
+
+        // Control Structure: Only a complete load is worth caching; a failed write just means no cache
+        if (!stopped[0]) {
+            try {
+                write(snapshot.getPath(), items, csv.length(), csv.lastModified());
+            } catch (IOException | IllegalStateException e) {
+                snapshot.delete();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if a snapshot was written from the current version of a CSV file
+     * Input: Snapshot file, CSV file
+     * Output: true if the snapshot can be used instead of the CSV
+     */
+    public static boolean isCurrent(File snapshot, File csv) {
+        if (!snapshot.isFile() || !csv.isFile() || snapshot.length() < HEADER_SIZE) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(snapshot))) {
+            return in.readInt() == MAGIC
+                   && in.readInt() == VERSION
+                   && in.readLong() == csv.length()
+                   && in.readLong() == csv.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write a snapshot of some items (no source CSV recorded)
+     * Input: Snapshot path, items in the order they should load back
+     */
+    public static void write(String path, Iterable<InventoryItem> items) throws IOException {
+        write(path, items, 0, 0);
+    }
+
+    /**
+     * Write a snapshot in one pass: header placeholder, records, extras,
+     * dictionaries, then the real header. The file is written under a
+     * temporary name and renamed, so readers never see half a snapshot.
+     * Input: Snapshot path, items, source CSV length and modification time
+     * Control Structure: for-each loop, if conditions
+     */
+    public static void write(String path, Iterable<InventoryItem> items, long sourceLength,
+                             long sourceModified) throws IOException {
+        Path target = Paths.get(path);
+        Path temp = Paths.get(path + ".tmp");
+        ValueDictionary brands = new ValueDictionary(MAX_CODES);
+        ValueDictionary labels = new ValueDictionary(MAX_CODES);
+        ValueDictionary statuses = new ValueDictionary(MAX_CODES);
+        ByteArrayOutputStream extraBytes = new ByteArrayOutputStream();  // Rare, kept in memory
+        DataOutputStream extras = new DataOutputStream(extraBytes);
+        int extraCount = 0;
+        String lastDate = null;           // Loaded items share date Strings, so the
+        boolean lastDateCompact = false;  // round-trip check runs once per distinct date
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            channel.position(HEADER_SIZE);
+            int count = 0;
+
+            // Control Structure: One fixed-width record per item
+            for (InventoryItem item : items) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(channel, buffer);
+                }
+                int flags = 0;
+                String date = item.getDateEntered();
+                int dateValue = item.getDateValue();
+                if (date != lastDate) {
+                    lastDate = date;
+                    lastDateCompact = dateValue != InventoryDate.INVALID
+                                      && InventoryDate.format(dateValue).equals(date);
+                }
+                if (!lastDateCompact) {
+                    flags |= FLAG_RAW_DATE;
+                    writeExtra(extras, count, 'D', date);
+                    extraCount++;
+                }
+                String engine = item.getEngineNumber();
+                boolean compactEngine = isCompactEngine(engine);
+                if (!compactEngine) {
+                    flags |= FLAG_RAW_ENGINE;
+                    writeExtra(extras, count, 'E', engine);
+                    extraCount++;
+                }
+
+                buffer.put((byte) brands.encode(item.getBrand()));
+                buffer.put((byte) labels.encode(item.getStockLabel()));
+                buffer.put((byte) statuses.encode(item.getStatus()));
+                buffer.put((byte) flags);
+                buffer.putInt(dateValue);
+                for (int i = 0; i < ENGINE_WIDTH; i++) {
+                    buffer.put(compactEngine ? (byte) engine.charAt(i) : 0);
+                }
+                count++;
+            }
+            drain(channel, buffer);
+
+            // Extras and dictionaries follow the records
+            long extrasOffset = channel.position();
+            DataOutputStream tail = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel), BUFFER_SIZE));
+            tail.writeInt(extraCount);
+            extraBytes.writeTo(tail);
+            tail.flush();
+            long dictionaryOffset = channel.position();
+            writeDictionary(tail, brands);
+            writeDictionary(tail, labels);
+            writeDictionary(tail, statuses);
+            tail.flush();
+
+            // Control Structure: Fill in the header now that every offset is known
+            buffer.clear();
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(sourceLength).putLong(sourceModified)
+                  .putInt(count).putLong(extrasOffset).putLong(dictionaryOffset);
+            buffer.flip();
+            channel.position(0);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read every item of a snapshot into a sink
+     * The whole file is validated before the first item is delivered
+     * Input: Snapshot path, sink that stores the items
+     * Output: Number of items accepted by the sink
+     * Control Structure: for loops, if conditions
+     */
+    public static int read(String path, ItemSink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException("Not an inventory snapshot: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an inventory snapshot (or an unsupported version): " + path);
+            }
+            header.getLong();  // Source length and modification time (checked by isCurrent)
+            header.getLong();
+            int count = header.getInt();
+            long extrasOffset = header.getLong();
+            long dictionaryOffset = header.getLong();
+            if (count < 0 || extrasOffset != HEADER_SIZE + (long) count * RECORD_SIZE
+                    || dictionaryOffset < extrasOffset || dictionaryOffset > size) {
+                throw new IOException("Damaged inventory snapshot: " + path);
+            }
+
+            // Extras and dictionaries
+            DataInputStream tail = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(extrasOffset)), BUFFER_SIZE));
+            HashMap<Integer, String> rawDates = new HashMap<>();
+            HashMap<Integer, String> rawEngines = new HashMap<>();
+            int extraCount = tail.readInt();
+            for (int i = 0; i < extraCount; i++) {
+                int row = tail.readInt();
+                int kind = tail.readByte();
+                String text = readText(tail);
+                (kind == 'D' ? rawDates : rawEngines).put(row, text);
+            }
+            String[] brands = readDictionary(tail);
+            String[] labels = readDictionary(tail);
+            String[] statuses = readDictionary(tail);
+
+            HashMap<Integer, String> dateTexts = new HashMap<>();  // One String per distinct day
+            byte[] engine = new byte[ENGINE_WIDTH];
+            int delivered = 0;
+
+            // Control Structure: Map the records a window at a time
+            for (int first = 0; first < count; first += RECORDS_PER_MAP) {
+                int records = Math.min(RECORDS_PER_MAP, count - first);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_SIZE + (long) first * RECORD_SIZE, (long) records * RECORD_SIZE);
+
+                for (int r = 0; r < records; r++) {
+                    int row = first + r;
+                    String brand = brands[window.get() & 0xFF];
+                    String label = labels[window.get() & 0xFF];
+                    String status = statuses[window.get() & 0xFF];
+                    int flags = window.get();
+                    int dateValue = window.getInt();
+                    window.get(engine);
+
+                    // Control Structure: Original text for rows that did not fit the record
+                    String date = (flags & FLAG_RAW_DATE) != 0 ? rawDates.get(row)
+                                  : dateTexts.computeIfAbsent(dateValue, InventoryDate::format);
+                    String engineNumber = (flags & FLAG_RAW_ENGINE) != 0 ? rawEngines.get(row)
+                                          : new String(engine, StandardCharsets.US_ASCII);
+
+                    delivered++;
+                    if (!sink.accept(new InventoryItem(date, dateValue, label, brand, engineNumber, status))) {
+                        return delivered;
+                    }
+                }
+            }
+            return delivered;
+        } catch (ArrayIndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Damaged inventory snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * Main method - Build the snapshot of a CSV file and compare load times
+     * Input: CSV file path
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java InventorySnapshot file.csv");
+            return;
+        }
+        String csvPath = args[0];
+        new File(csvPath + EXTENSION).delete();
+
+        long start = System.nanoTime();
+        int parsed = loadCached(csvPath, item -> true);  // Parses the CSV and writes the snapshot
+        double csvMs = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        int loaded = loadCached(csvPath, item -> true);  // Reads the snapshot
+        double snapshotMs = (System.nanoTime() - start) / 1e6;
+
+        System.out.println(String.format("CSV parse + snapshot write: %,d items in %.1f ms", parsed, csvMs));
+        System.out.println(String.format("Snapshot load:              %,d items in %.1f ms (%,d bytes)",
+                           loaded, snapshotMs, new File(csvPath + EXTENSION).length()));
+    }
+
+    /**
+     * Write the buffered bytes to the channel and empty the buffer
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * One extras entry: row, kind ('D' date or 'E' engine number), original text
+     */
+    private static void writeExtra(DataOutputStream out, int row, char kind, String text) throws IOException {
+        out.writeInt(row);
+        out.writeByte(kind);
+        writeText(out, text);
+    }
+
+    private static void writeDictionary(DataOutputStream out, ValueDictionary dictionary) throws IOException {
+        out.writeShort(dictionary.size());
+        for (int code = 0; code < dictionary.size(); code++) {
+            writeText(out, dictionary.decode(code));
+        }
+    }
+
+    private static String[] readDictionary(DataInputStream in) throws IOException {
+        String[] values = new String[in.readUnsignedShort()];
+        for (int code = 0; code < values.length; code++) {
+            values[code] = readText(in);
+        }
+        return values;
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > BUFFER_SIZE) {
+            throw new IOException("Damaged inventory snapshot text");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check if an engine number fits the 10-byte record field
+     * Input: Engine number
+     * Output: true for exactly ENGINE_WIDTH printable ASCII characters
+     */
+    private static boolean isCompactEngine(String engine) {
+        if (engine == null || engine.length() != ENGINE_WIDTH) {
+            return false;
+        }
+        for (int i = 0; i < ENGINE_WIDTH; i++) {
+            char c = engine.charAt(i);
+            if (c <= ' ' || c > '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * InventorySorter - Stable O(n log n) sorting for inventory items
+ * Demonstrates: precomputed sort keys, multi-key comparison, parallel merge sort
+ *
+ * WHY NOT BUBBLE SORT:
+ * - Bubble sort compares neighbours n * n times (100k items = 10 billion compares)
+ * - Arrays.sort on objects is TimSort: stable, O(n log n), fast on partly sorted data
+ * - Arrays.parallelSort splits the work across cores for big lists (also stable)
+ *
+ * PRECOMPUTED KEYS:
+ * - Brands are ranked once per distinct brand (by ValueIds id), so each item
+ *   gets an int brand rank instead of a case-folded copy of its brand
+ * - The engine number is packed into a long once per item (no upper-case
+ *   copy), so comparing two of them is one long compare; the date is the
+ *   item's parsed epoch day
+ */
+public class InventorySorter {
+    // Variables - Lists at least this long are sorted in parallel by default
+    private static final int PARALLEL_THRESHOLD = 50_000;
+
+    /**
+     * SortOrder - Supported orderings
+     * BRAND: brand only, ties keep their current order (stable)
+     * DATE: date entered only, ties keep their current order (stable)
+     * BRAND_DATE_ENGINE: brand, then date, then engine number
+     */
+    public enum SortOrder {
+        BRAND, DATE, BRAND_DATE_ENGINE
+    }
+
+    /**
+     * Sort a list in place
+     * Input: List to sort, sort order
+     * Output: List reordered (parallel sort is used for large lists)
+     */
+    public static void sort(List<InventoryItem> list, SortOrder order) {
+        sort(list, order, list.size() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sort a list in place
+     * Input: List to sort, sort order, whether to sort on all cores
+     * Output: List reordered
+     * Control Structure: for loop
+     */
+    public static void sort(List<InventoryItem> list, SortOrder order, boolean parallel) {
+        SortKey[] keys = buildKeys(list, list.size());
+        sortKeys(keys, order, parallel);
+
+        // Control Structure: Write the items back in sorted order
+        for (int i = 0; i < keys.length; i++) {
+            list.set(i, keys[i].item);
+        }
+    }
+
+    /**
+     * Build a sorted copy without changing the source structure
+     * Input: Items in their current order, sort order
+     * Output: New list in sorted order
+     */
+    public static ArrayList<InventoryItem> sortedView(Iterable<InventoryItem> items, SortOrder order) {
+        ArrayList<InventoryItem> copy = new ArrayList<>();
+        for (InventoryItem item : items) {
+            copy.add(item);
+        }
+        sort(copy, order);
+        return copy;
+    }
+
+    /**
+     * Precompute the sort key of every item
+     * Input: Items, number of items
+     * Output: One SortKey per item, in the original order
+     * Control Structure: for-each loops
+     */
+    private static SortKey[] buildKeys(Iterable<InventoryItem> items, int count) {
+        SortKey[] keys = new SortKey[count];
+        HashMap<Integer, String> brandNames = new HashMap<>();  // Brand id -> folded brand, once per brand
+        int i = 0;
+        for (InventoryItem item : items) {
+            keys[i++] = new SortKey(item);
+            brandNames.computeIfAbsent(item.getBrandId(), id -> item.getBrand() == null ? "" : ValueIds.fold(item.getBrand()));
+        }
+
+        // Control Structure: Rank the few distinct brands alphabetically, then give each item its rank
+        Integer[] brandIds = brandNames.keySet().toArray(new Integer[0]);
+        Arrays.sort(brandIds, Comparator.comparing(brandNames::get));
+        HashMap<Integer, Integer> rankOf = new HashMap<>();
+        for (int rank = 0; rank < brandIds.length; rank++) {
+            rankOf.put(brandIds[rank], rank);
+        }
+        for (SortKey key : keys) {
+            key.brand = rankOf.get(key.item.getBrandId());
+        }
+        return keys;
+    }
+
+    /**
+     * Sort the key array with a stable merge sort
+     * Input: Keys, sort order, whether to sort on all cores
+     * Control Structure: switch-case, if-else condition
+     */
+    private static void sortKeys(SortKey[] keys, SortOrder order, boolean parallel) {
+        Comparator<SortKey> comparator;
+
+        // Control Structure: Pick the comparator for the requested order
+        switch (order) {
+            case BRAND:
+                comparator = SortKey::compareBrand;
+                break;
+            case DATE:
+                comparator = SortKey::compareDate;
+                break;
+            default:
+                comparator = SortKey::compareBrandDateEngine;
+                break;
+        }
+
+        // Both sorts are stable merge sorts for object arrays
+        if (parallel) {
+            Arrays.parallelSort(keys, comparator);
+        } else {
+            Arrays.sort(keys, comparator);
+        }
+    }
+
+    /**
+     * SortKey - An item together with its precomputed comparison values
+     */
+    private static class SortKey {
+        final InventoryItem item;
+        int brand;            // Alphabetical rank of the brand, ignoring case (set by buildKeys)
+        final int date;       // Epoch day (unreadable dates sort last)
+        final long engine;    // EngineNumberIndex.orderKey (-1 if the engine number does not pack)
+
+        SortKey(InventoryItem item) {
+            this.item = item;
+            int day = item.getDateValue();
+            this.date = (day == InventoryDate.INVALID) ? Integer.MAX_VALUE : day;
+            this.engine = EngineNumberIndex.orderKey(item.getEngineNumber());
+        }
+
+        int compareBrand(SortKey other) {
+            return Integer.compare(brand, other.brand);
+        }
+
+        int compareDate(SortKey other) {
+            return Integer.compare(date, other.date);
+        }
+
+        /**
+         * Compare engine numbers ignoring case (packed keys, or folded text when one does not pack)
+         */
+        int compareEngine(SortKey other) {
+            if (engine < 0 || other.engine < 0) {
+                return ValueIds.fold(item.getEngineNumber()).compareTo(ValueIds.fold(other.item.getEngineNumber()));
+            }
+            int result = Long.compare(engine, other.engine);
+            return result != 0 ? result
+                   : Integer.compare(item.getEngineNumber().length(), other.item.getEngineNumber().length());
+        }
+
+        int compareBrandDateEngine(SortKey other) {
+            int result = compareBrand(other);
+            if (result == 0) {
+                result = compareDate(other);
+            }
+            if (result == 0) {
+                result = compareEngine(other);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * InventoryStack - Growable array-backed stack (LIFO) that can be read without popping
+ * Demonstrates: array-backed stack, top-down iteration, in-place bulk removal
+ *
+ * WHY NOT java.util.Stack:
+ * - java.util.Stack extends Vector, so every push/pop takes a lock even when
+ *   only one thread uses it
+ * - It has no top-down traversal, which is why reading the whole stack used to
+ *   mean popping everything onto a temporary stack and pushing it back
+ * - Here the top of the stack is simply elements[size - 1]; reading walks the
+ *   array from the top down and never changes or copies the stack
+ *
+ * Not thread-safe; share it between threads only with outside locking.
+ */
+public class InventoryStack<E> implements Iterable<E> {
+    // Variables - Backing array (bottom at index 0) and number of elements
+    private static final int INITIAL_CAPACITY = 16;
+    private Object[] elements;
+    private int size;
+
+    // Constructor
+    public InventoryStack() {
+        this.elements = new Object[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Push an element onto the top
+     * Input: Element
+     */
+    public void push(E element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Remove and return the top element
+     * Output: Top element
+     */
+    public E pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        E top = element(--size);
+        elements[size] = null;  // Let the popped element be garbage collected
+        return top;
+    }
+
+    /**
+     * Top element without removing it
+     * Output: Top element
+     */
+    public E peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Stack is empty");
+        }
+        return element(size - 1);
+    }
+
+    /**
+     * Remove every element matching a condition, keeping the others in order
+     * The condition is tested from the top down, one array pass, no temporary stack
+     * Input: Condition
+     * Output: Number of removed elements
+     * Control Structure: for loop, if condition
+     */
+    public int removeIf(Predicate<? super E> condition) {
+        int keepFrom = size;  // Kept elements are packed at the top end of the array
+
+        // Control Structure: Walk top-down, sliding kept elements upward
+        for (int i = size - 1; i >= 0; i--) {
+            E element = element(i);
+            if (!condition.test(element)) {
+                elements[--keepFrom] = element;
+            }
+        }
+
+        // Move the kept block back down to the bottom
+        int kept = size - keepFrom;
+        System.arraycopy(elements, keepFrom, elements, 0, kept);
+        Arrays.fill(elements, kept, size, null);
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Remove one element from anywhere in the stack, keeping the others in order
+     * Only the occurrence nearest the top is removed, even if the same object
+     * was pushed more than once
+     * Input: Exact element object (compared with ==)
+     * Output: true if it was found
+     * Control Structure: for loop, if condition
+     */
+    public boolean remove(E element) {
+        // Control Structure: Search top-down, then close the gap by moving the elements above it
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == element) {
+                System.arraycopy(elements, i + 1, elements, i, size - i - 1);
+                elements[--size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove every element
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Iterate from the top down (for-each friendly, read-only)
+     * Output: Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public E next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                return element(next--);
+            }
+        };
+    }
+
+    /**
+     * Grow the backing array by half (or to the required size)
+     * Input: Required capacity
+     */
+    private void grow(int required) {
+        int capacity = Math.max(required, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int index) {
+        return (E) elements[index];
+    }
+}
@@ -0,0 +1,119 @@
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * InventoryStore - Operations every inventory backend supports
+ * Demonstrates: interfaces, polymorphism, factory method
+ *
+ * The five data structure classes, ConcurrentInventory,
+ * ColumnarInventoryStore and TemporalInventoryStore all implement this
+ * interface, so code written against InventoryStore (benchmarks, tools, App)
+ * can switch backends by name without knowing which structure is underneath.
+ *
+ * These methods print nothing; the menu methods of each class (pushItem,
+ * updateStatus, ...) still print their confirmations as before.
+ * Iteration visits every item once in the structure's own order
+ * (array/list/queue: load order, stack: top first).
+ */
+public interface InventoryStore extends Iterable<InventoryItem> {
+
+    // Backend names accepted by create()
+    String[] TYPES = {"array", "linkedlist", "stack", "queue", "arraylist", "concurrent", "columnar", "temporal"};
+
+    /**
+     * Load inventory from CSV file
+     * Input: CSV file path
+     * Output: Number of items loaded
+     */
+    int loadInventoryFromCSV(String filename);
+
+    /**
+     * Add an item
+     * Input: Item
+     * Output: true if added (false only when the backend rejects duplicates)
+     */
+    boolean add(InventoryItem item);
+
+    /**
+     * Remove the item with an engine number
+     * Input: Engine number
+     * Output: true if removed, false if not found
+     */
+    boolean remove(String engineNumber);
+
+    /**
+     * Remove every item whose engine number is listed
+     * (array-backed stores override this to close all the gaps in one pass)
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loop
+     */
+    default int removeAll(Collection<String> engineNumbers) {
+        int removed = 0;
+        for (String engineNumber : engineNumbers) {
+            if (remove(engineNumber)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Find an item by engine number
+     * Input: Engine number (any letter case)
+     * Output: Item or null
+     */
+    InventoryItem searchByEngineNumber(String engineNumber);
+
+    /**
+     * Change the status of an item
+     * Input: Engine number, new status
+     * Output: true if updated, false if not found
+     */
+    boolean setStatus(String engineNumber, String newStatus);
+
+    /**
+     * Change the stock label (Old/New) of an item
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    boolean setStockLabel(String engineNumber, String newLabel);
+
+    // Counts and filters (letter case is ignored)
+    int countByBrand(String brand);
+    int countByStatus(String status);
+    List<InventoryItem> findByBrand(String brand);
+    List<InventoryItem> findByStatus(String status);
+
+    /**
+     * Number of items
+     */
+    int size();
+
+    /**
+     * Record every later add, remove and status change in a journal
+     * (see InventoryJournal.open, which replays it first)
+     * Input: Open journal, or null to stop journaling
+     */
+    void attachJournal(InventoryJournal journal);
+
+    /**
+     * Create an empty backend by name
+     * Input: One of TYPES (letter case ignored)
+     * Output: New store
+     * Control Structure: switch-case
+     */
+    static InventoryStore create(String type) {
+        switch (type.toLowerCase()) {
+            case "array": return new ArrayInventory();
+            case "linkedlist": return new LinkedListInventory();
+            case "stack": return new StackInventory();
+            case "queue": return new QueueInventory();
+            case "arraylist": return new ArrayListInventory();
+            case "concurrent": return new ConcurrentInventory();
+            case "columnar": return new ColumnarInventoryStore();
+            case "temporal": return new TemporalInventoryStore();
+            default: throw new IllegalArgumentException("Unknown inventory type: " + type);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * ItemSink - Callback that receives inventory items as they are parsed
+ * Used by InventoryCSVReader so one loader can fill any data structure
+ */
+public interface ItemSink {
+
+    /**
+     * Receive one parsed item
+     * Input: InventoryItem built from a CSV record
+     * Output: true to keep reading, false to stop loading (the item is then not counted)
+     */
+    boolean accept(InventoryItem item);
+}
@@ -0,0 +1,52 @@
+/**
+ * JournalHook - The link from an inventory structure to its change journal
+ * Demonstrates: null object pattern, one shared helper instead of copies per class
+ *
+ * Every structure reports its adds, removes, status and label changes here,
+ * right after applying them in memory. While no journal is attached the
+ * calls do nothing, so the structures never check for null themselves.
+ *
+ * Safe to attach from one thread while others record (the journal reference
+ * is volatile; InventoryJournal itself is thread-safe).
+ */
+public class JournalHook {
+    // Variables - Attached journal (null = changes are not logged)
+    private volatile InventoryJournal journal;
+
+    /**
+     * Start (or stop, with null) logging changes
+     * Input: Open journal, or null
+     */
+    public void attach(InventoryJournal journal) {
+        this.journal = journal;
+    }
+
+    // Record changes if a journal is attached
+    public void recordAdd(InventoryItem item) {
+        InventoryJournal current = journal;
+        if (current != null) {
+            current.recordAdd(item);
+        }
+    }
+
+    public void recordRemove(String engineNumber) {
+        InventoryJournal current = journal;
+        if (current != null) {
+            current.recordRemove(engineNumber);
+        }
+    }
+
+    public void recordStatus(String engineNumber, String newStatus) {
+        InventoryJournal current = journal;
+        if (current != null) {
+            current.recordStatus(engineNumber, newStatus);
+        }
+    }
+
+    public void recordLabel(String engineNumber, String newLabel) {
+        InventoryJournal current = journal;
+        if (current != null) {
+            current.recordLabel(engineNumber, newLabel);
+        }
+    }
+}
@@ -1,31 +1,56 @@
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 /**
  * LinkedListInventory - Manages inventory using a Linked List
  * Demonstrates: Linked List data structure, dynamic memory, node traversal
+ * 
+ * FASTER ACCESS WITHOUT GIVING UP THE LINKS:
+ * - Nodes are doubly linked (next and previous), and the engine index maps
+ *   engine numbers straight to nodes, so a delete is an O(1) unlink
+ * - Every CHECKPOINT_STRIDE-th node is remembered in a checkpoint array;
+ *   getAtPosition jumps to the nearest checkpoint and walks at most
+ *   CHECKPOINT_STRIDE / 2 nodes instead of walking from head
+ * - A delete only marks the checkpoints stale; the next getAtPosition
+ *   rebuilds them in one O(size) walk, so a run of deletes costs one rebuild
  */
-public class LinkedListInventory {
+public class LinkedListInventory implements InventoryStore {
     
     /**
      * Node class - Represents a single node in the linked list
-     * Variables: data (InventoryItem), next (reference to next node)
+     * Variables: data (InventoryItem), next/previous (neighbour nodes)
      */
     private class Node {
         InventoryItem data;  // Variable: item data
         Node next;           // Variable: reference to next node
+        Node previous;       // Variable: reference to previous node
         
         // Constructor
         Node(InventoryItem item) {
             this.data = item;
             this.next = null;
+            this.previous = null;
         }
     }
     
     // Variables - Head and tail pointers, size counter
+    private static final int CHECKPOINT_STRIDE = 64;  // Nodes between two checkpoints
     private Node head;
     private Node tail;
     private int size;
+    private Node[] checkpoints;   // checkpoints[k] = node at 0-based position k * CHECKPOINT_STRIDE
+    private int checkpointCount;
+    private boolean checkpointsStale;  // true after a delete, until getAtPosition rebuilds them
+    private EngineNumberIndex<Node> engineIndex;           // Hash index: engine number -> node
+    private InventoryCounters counters;                    // Live counts by status, brand and label
+    private final JournalHook journal;                     // Change log for crash recovery (no-op until attached)
+    private InventoryRenderer renderer;                    // Buffered, paged table output
     private Scanner scanner;
     
     // Constructor
@@ -33,7 +58,14 @@ public class LinkedListInventory {
         this.head = null;
         this.tail = null;
         this.size = 0;
+        this.checkpoints = new Node[16];
+        this.checkpointCount = 0;
+        this.checkpointsStale = false;
+        this.engineIndex = new EngineNumberIndex<>();
+        this.counters = new InventoryCounters();
         this.scanner = new Scanner(System.in);
+        this.renderer = new InventoryRenderer(scanner);
+        this.journal = new JournalHook();
     }
     
     /**
@@ -49,45 +81,38 @@ public class LinkedListInventory {
             head = newNode;
             tail = newNode;
         } else {
-            tail.next = newNode;  // Link new node
-            tail = newNode;        // Update tail
+            tail.next = newNode;      // Link new node
+            newNode.previous = tail;  // Link back to old tail
+            tail = newNode;           // Update tail
+        }
+        
+        // Control Structure: Every CHECKPOINT_STRIDE-th position gets a checkpoint
+        // (stale checkpoints are rebuilt whole later, new nodes included)
+        if (!checkpointsStale && size % CHECKPOINT_STRIDE == 0) {
+            if (checkpointCount == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+            }
+            checkpoints[checkpointCount++] = newNode;
         }
         size++;  // Increment size
+        trackAdded(newNode);
     }
     
     /**
      * Load inventory from CSV file
      * Input: CSV file path
      * Output: Number of items loaded
-     * Control Structure: while loop
+     * Control Structure: callback
      */
+    @Override
     public int loadInventoryFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            
-            // Skip first two header lines
-            br.readLine();
-            br.readLine();
-            
-            // Control Structure: While loop to read all records
-            while ((line = br.readLine()) != null) {
-                // Parse CSV line
-                String[] data = line.split(",");
-                
-                // Control Structure: If condition to validate data
-                if (data.length >= 5) {
-                    // Create new inventory item and add to list
-                    InventoryItem item = new InventoryItem(
-                        data[0].trim(),  // dateEntered
-                        data[1].trim(),  // stockLabel
-                        data[2].trim(),  // brand
-                        data[3].trim(),  // engineNumber
-                        data[4].trim()   // status
-                    );
-                    addToEnd(item);  // Add to linked list
-                }
-            }
-            
+        try {
+            // Shared reader parses each record and hands it to this callback
+            InventorySnapshot.loadCached(filename, item -> {
+                addToEnd(item);  // Add to linked list
+                return true;
+            });
+
             // Output: Display load confirmation
             System.out.println("Loaded " + size + " items into linked list.");
             return size;
@@ -101,89 +126,100 @@ public class LinkedListInventory {
     /**
      * Display all items in linked list
      * Output: Formatted list of all items
-     * Control Structure: while loop
+     * Control Structure: iterator traversal, paged output (InventoryRenderer)
      */
     public void displayAll() {
         // Output: Print header
         System.out.println("\n=== Inventory Items (Linked List Implementation) ===");
         System.out.println("Total Items: " + size);
-        System.out.println(InventoryItem.getHeader());
-        System.out.println("=".repeat(80));
-        
-        // Variables for traversal
-        Node current = head;
-        int position = 1;
-        
-        // Control Structure: While loop to traverse linked list
-        while (current != null) {
-            System.out.println(position + ". " + current.data.toString());
-            current = current.next;  // Move to next node
-            position++;
-        }
+        // Output: Rows go through one reusable buffer, a page at a time
+        renderer.printTable(this);
     }
     
     /**
-     * Search for item by engine number
+     * Search for item by engine number using the hash index
      * Input: Engine number
      * Output: Found item or null
-     * Control Structure: while loop, if condition
      */
+    @Override
     public InventoryItem searchByEngineNumber(String engineNum) {
-        Node current = head;  // Variable: current node pointer
-        
-        // Control Structure: Traverse linked list
-        while (current != null) {
-            // Control Structure: Check if engine number matches
-            if (current.data.getEngineNumber().equalsIgnoreCase(engineNum)) {
-                return current.data;  // Return found item
-            }
-            current = current.next;  // Move to next node
-        }
-        return null;  // Not found
+        // O(1) average - no traversal from head
+        Node node = engineIndex.get(engineNum);
+        return node == null ? null : node.data;
     }
     
     /**
      * Delete item by engine number
      * Input: Engine number
      * Output: true if deleted, false if not found
-     * Control Structure: while loop, if-else conditions
+     * Control Structure: if-else conditions
      */
     public boolean deleteByEngineNumber(String engineNum) {
-        Node current = head;
-        Node previous = null;
+        Node target = engineIndex.get(engineNum);  // O(1) - no traversal to find the node
         
-        // Control Structure: Traverse to find item
-        while (current != null) {
-            // Control Structure: Check if engine number matches
-            if (current.data.getEngineNumber().equalsIgnoreCase(engineNum)) {
-                // Control Structure: Check if deleting head node
-                if (previous == null) {
-                    head = current.next;
-                    // Control Structure: If list becomes empty
-                    if (head == null) {
-                        tail = null;
-                    }
-                } else {
-                    previous.next = current.next;
-                    // Control Structure: If deleting tail
-                    if (current.next == null) {
-                        tail = previous;
-                    }
-                }
-                size--;  // Decrement size
-                return true;  // Deletion successful
+        // Control Structure: Not in the list
+        if (target == null) {
+            return false;
+        }
+        
+        unlink(target);  // O(1) - positions after the target move up by one,
+        checkpointsStale = true;  // so the checkpoints are rebuilt on the next getAtPosition
+        return true;  // Deletion successful
+    }
+    
+    /**
+     * Remove many items at once (InventoryStore)
+     * Nodes are unlinked and the checkpoints marked stale, like deleteByEngineNumber
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loop, if condition
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        int removed = 0;
+        for (String engineNumber : engineNumbers) {
+            Node target = engineIndex.get(engineNumber);
+            if (target != null) {
+                unlink(target);
+                removed++;
             }
-            previous = current;
-            current = current.next;
         }
-        return false;  // Not found
+        if (removed > 0) {
+            checkpointsStale = true;
+        }
+        return removed;
+    }
+    
+    /**
+     * Take a node out of the chain and out of the indexes
+     * (marking the checkpoints stale is the caller's job)
+     * Input: Node to remove
+     * Control Structure: if-else conditions
+     */
+    private void unlink(Node target) {
+        // Control Structure: Unlink from the previous side (or move head)
+        if (target.previous == null) {
+            head = target.next;
+        } else {
+            target.previous.next = target.next;
+        }
+        
+        // Control Structure: Unlink from the next side (or move tail)
+        if (target.next == null) {
+            tail = target.previous;
+        } else {
+            target.next.previous = target.previous;
+        }
+        
+        size--;  // Decrement size
+        trackRemoved(target);
     }
     
     /**
      * Get item at specific position
      * Input: Position (1-based index)
      * Output: Item at position or null
-     * Control Structure: if condition, while loop
+     * Control Structure: if-else conditions, while loops
      */
     public InventoryItem getAtPosition(int position) {
         // Control Structure: Validate position
@@ -191,37 +227,257 @@ public class LinkedListInventory {
             return null;
         }
         
-        Node current = head;
-        int index = 1;
+        // Control Structure: First lookup after deletes - one walk fixes every checkpoint
+        if (checkpointsStale) {
+            rebuildCheckpoints();
+        }
         
-        // Control Structure: Traverse to position
-        while (index < position) {
-            current = current.next;
-            index++;
+        int index = position - 1;  // 0-based
+        int slot = index / CHECKPOINT_STRIDE;
+        int offset = index - slot * CHECKPOINT_STRIDE;
+        Node current;
+        
+        // Control Structure: Walk back from the next checkpoint when it is closer
+        if (offset > CHECKPOINT_STRIDE / 2 && slot + 1 < checkpointCount) {
+            current = checkpoints[slot + 1];
+            int steps = CHECKPOINT_STRIDE - offset;
+            while (steps > 0) {
+                current = current.previous;
+                steps--;
+            }
+        } else {
+            current = checkpoints[slot];
+            while (offset > 0) {
+                current = current.next;
+                offset--;
+            }
         }
         
         return current.data;
     }
     
     /**
-     * Count items by brand
-     * Input: Brand name
-     * Output: Count of matching items
+     * Point every checkpoint at the node now at its position
      * Control Structure: while loop, if condition
      */
-    public int countByBrand(String brandName) {
-        int count = 0;
+    private void rebuildCheckpoints() {
+        int needed = (size + CHECKPOINT_STRIDE - 1) / CHECKPOINT_STRIDE;
+        if (needed > checkpoints.length) {
+            checkpoints = new Node[Math.max(needed, checkpoints.length * 2)];
+        } else {
+            Arrays.fill(checkpoints, 0, checkpointCount, null);
+        }
+        checkpointCount = 0;
         Node current = head;
+        int position = 0;
         
-        // Control Structure: Traverse linked list
         while (current != null) {
-            // Control Structure: Check brand match
-            if (current.data.getBrand().equalsIgnoreCase(brandName)) {
-                count++;
+            if (position % CHECKPOINT_STRIDE == 0) {
+                checkpoints[checkpointCount++] = current;
             }
             current = current.next;
+            position++;
         }
-        return count;
+        checkpointsStale = false;
+    }
+    
+    /**
+     * Count items by brand
+     * Input: Brand name
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByBrand(String brandName) {
+        // O(1) read of the live counter - no traversal
+        return counters.getBrandCount(brandName);
+    }
+    
+    /**
+     * Count items by status
+     * Input: Status (On-hand or Sold)
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByStatus(String status) {
+        // O(1) read of the live counter - no traversal
+        return counters.getStatusCount(status);
+    }
+    
+    /**
+     * Append an item (InventoryStore)
+     * Input: Item
+     * Output: true (the list has no capacity limit)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        addToEnd(item);
+        return true;
+    }
+    
+    /**
+     * Remove an item by engine number (InventoryStore)
+     * Input: Engine number
+     * Output: true if removed
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        return deleteByEngineNumber(engineNumber);
+    }
+    
+    /**
+     * Change an item's status without printing (InventoryStore)
+     * Input: Engine number, new status
+     * Output: true if the item exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        Node node = engineIndex.get(engineNumber);
+        if (node == null) {
+            return false;
+        }
+        changeStatus(node.data, newStatus);
+        return true;
+    }
+    
+    /**
+     * Change the stock label of an item by engine number (InventoryStore)
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        Node node = engineIndex.get(engineNumber);
+        if (node == null) {
+            return false;
+        }
+        changeLabel(node.data, newLabel);
+        return true;
+    }
+    
+    /**
+     * Items of a brand, in list order
+     * Input: Brand name
+     * Output: Matching items
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        List<InventoryItem> result = new ArrayList<>();
+        int brandId = ValueIds.find(brand);  // Folded once per query, not once per item
+        for (InventoryItem item : this) {
+            if (item.getBrandId() == brandId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Items with a status, in list order
+     * Input: Status
+     * Output: Matching items
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        List<InventoryItem> result = new ArrayList<>();
+        int statusId = ValueIds.find(status);  // Folded once per query, not once per item
+        for (InventoryItem item : this) {
+            if (item.getStatusId() == statusId) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Iterate the items from head to tail
+     * Output: Iterator following the next links
+     */
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private Node current = head;
+            
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+            
+            @Override
+            public InventoryItem next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                InventoryItem item = current.data;
+                current = current.next;  // Move to next node
+                return item;
+            }
+        };
+    }
+    
+    /**
+     * Get the live counters (counts by status, brand and stock label)
+     * Output: Counters kept up to date by every add, remove and status change
+     */
+    public InventoryCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is added
+     * Input: Node of the added item
+     */
+    private void trackAdded(Node node) {
+        engineIndex.put(node.data.getEngineNumber(), node);
+        counters.itemAdded(node.data);
+        journal.recordAdd(node.data);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is removed
+     * Input: Node of the removed item
+     */
+    private void trackRemoved(Node node) {
+        engineIndex.remove(node.data.getEngineNumber(), node);
+        counters.itemRemoved(node.data);
+        journal.recordRemove(node.data.getEngineNumber());
+    }
+    
+    /**
+     * Change an item's status and keep the counters in sync
+     * Input: Item, new status
+     */
+    private void changeStatus(InventoryItem item, String newStatus) {
+        String oldStatus = item.getStatus();
+        item.setStatus(newStatus);
+        counters.statusChanged(oldStatus, newStatus);
+        journal.recordStatus(item.getEngineNumber(), newStatus);
+    }
+    
+    /**
+     * Change an item's stock label and keep the counters in sync
+     * Input: Item, new label
+     */
+    private void changeLabel(InventoryItem item, String newLabel) {
+        String oldLabel = item.getStockLabel();
+        item.setStockLabel(newLabel);
+        counters.labelChanged(oldLabel, newLabel);
+        journal.recordLabel(item.getEngineNumber(), newLabel);
     }
     
     /**
@@ -0,0 +1,149 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * OrderProcessor - Worker threads that sell on-hand items submitted as orders
+ * Demonstrates: producer/consumer pattern, worker threads, atomic claims
+ *
+ * HOW IT WORKS:
+ * - Any number of producer threads call submit(item); orders go into a
+ *   lock-free OrderRingQueue (no queue rebuilding, no shared lock)
+ * - Worker threads take orders and claim them: an item moves On-hand -> Sold
+ *   exactly once even if several orders name the same item
+ * - A sales limit can be set; workers stop selling once it is reached and
+ *   the remaining orders are counted as skipped
+ *
+ * Usage: create, let producers submit, join the producers, then shutdown()
+ * to drain the remaining orders and stop the workers.
+ */
+public class OrderProcessor {
+    // Variables - Order queue, workers and results
+    private static final int IDLE_SPINS = 100;            // Spins before an idle worker parks
+    private static final long IDLE_PARK_NANOS = 20_000;   // Park time of an idle worker
+
+    private final OrderRingQueue<InventoryItem> orders;
+    private final BiConsumer<InventoryItem, String> onSold;  // (item, old status) after each sale
+    private final List<Thread> workers;
+    private final AtomicInteger salesLeft;  // Remaining sales allowed
+    private final AtomicInteger sold;       // Orders that sold an item
+    private final AtomicInteger skipped;    // Orders for items not on hand, or past the limit
+    private volatile boolean closed;
+
+    /**
+     * Start the worker threads
+     * Input: Callback run after each sale with the item and its old status
+     *        (keeps counters and indexes in sync; may run on several workers at once),
+     *        queue capacity, number of workers,
+     *        maximum number of sales (Integer.MAX_VALUE for no limit)
+     * Control Structure: for loop
+     */
+    public OrderProcessor(BiConsumer<InventoryItem, String> onSold, int capacity, int workerCount, int maxSales) {
+        this.orders = new OrderRingQueue<>(capacity);
+        this.onSold = onSold;
+        this.workers = new ArrayList<>();
+        this.salesLeft = new AtomicInteger(maxSales);
+        this.sold = new AtomicInteger();
+        this.skipped = new AtomicInteger();
+        this.closed = false;
+
+        // Control Structure: Start each worker
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "order-worker-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Submit an order (safe to call from any thread)
+     * Input: Item being ordered
+     * Control Structure: while loop (waits while the queue is full)
+     */
+    public void submit(InventoryItem item) {
+        if (closed) {
+            throw new IllegalStateException("Order processor is shut down");
+        }
+        // Control Structure: Back off while workers catch up
+        while (!orders.offer(item)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Finish the remaining orders and stop the workers
+     * Call after every producer has finished submitting
+     * Control Structure: for-each loop
+     */
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+            worker.join();
+        }
+    }
+
+    /**
+     * Sell an item if it is still on hand (atomic per item)
+     * Input: Item, callback run with the item and its old status after the sale
+     * Output: true if this call sold it
+     * Control Structure: if condition inside a lock on the item
+     */
+    public static boolean claim(InventoryItem item, BiConsumer<InventoryItem, String> onSold) {
+        // Only threads claiming this same item wait for each other
+        synchronized (item) {
+            if (item.getStatusId() != ValueIds.ON_HAND) {
+                return false;
+            }
+            String oldStatus = item.getStatus();
+            item.setStatus("Sold");
+            onSold.accept(item, oldStatus);
+            return true;
+        }
+    }
+
+    // Results
+    public int getSold() { return sold.get(); }
+    public int getSkipped() { return skipped.get(); }
+    public int getPending() { return orders.size(); }
+
+    /**
+     * Worker loop: take orders until shut down and drained
+     * Control Structure: while loop, if-else conditions
+     */
+    private void work() {
+        int idle = 0;
+
+        while (true) {
+            InventoryItem item = orders.poll();
+
+            // Control Structure: No order waiting
+            if (item == null) {
+                if (closed && orders.isEmpty()) {
+                    return;
+                }
+                if (++idle < IDLE_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                continue;
+            }
+            idle = 0;
+
+            // Control Structure: Reserve a sale from the limit, then claim the item
+            if (salesLeft.getAndDecrement() <= 0) {
+                salesLeft.incrementAndGet();
+                skipped.incrementAndGet();
+            } else if (claim(item, onSold)) {
+                sold.incrementAndGet();
+            } else {
+                salesLeft.incrementAndGet();  // Give the reservation back
+                skipped.incrementAndGet();
+            }
+        }
+    }
+}
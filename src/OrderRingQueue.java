@@ -0,0 +1,120 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * OrderRingQueue - Bounded lock-free queue for many producers and many consumers
+ * Demonstrates: circular array buffer, compare-and-set, sequence numbers
+ *
+ * HOW IT WORKS:
+ * - A fixed array of slots is used in a circle (capacity is a power of two, so
+ *   "position mod capacity" is a bit mask)
+ * - Every slot has a sequence number that says whose turn it is:
+ *     sequence == position      -> empty, a producer at this position may fill it
+ *     sequence == position + 1  -> full, a consumer at this position may take it
+ * - Producers claim a position by compare-and-set on tail, consumers on head;
+ *   no thread ever waits on a lock, and slots are reused without allocating
+ *
+ * offer returns false when the queue is full and poll returns null when it is
+ * empty, so callers decide whether to retry or back off.
+ */
+public class OrderRingQueue<E> {
+    // Variables - Slots, their sequence numbers and the two positions
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head;  // Next position to take from
+    private final AtomicLong tail;  // Next position to fill
+
+    // Constructor
+    public OrderRingQueue(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;  // Round up to a power of two
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+
+        // Control Structure: Slot i is first filled at position i
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element at the tail
+     * Input: Element (not null)
+     * Output: true if added, false if the queue is full
+     * Control Structure: retry loop, if-else conditions
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("OrderRingQueue does not accept null");
+        }
+        long position = tail.get();
+
+        // Control Structure: Retry until a slot is claimed or the queue is full
+        while (true) {
+            int slot = (int) (position & mask);
+            long turn = sequences.get(slot) - position;
+
+            if (turn == 0) {
+                // Slot is empty for this position - try to claim it
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(slot, element);
+                    sequences.set(slot, position + 1);  // Publish to consumers
+                    return true;
+                }
+                position = tail.get();
+            } else if (turn < 0) {
+                return false;  // Slot still holds an element from one lap ago - full
+            } else {
+                position = tail.get();  // Another producer got here first
+            }
+        }
+    }
+
+    /**
+     * Take the element at the head
+     * Output: Element, or null if the queue is empty
+     * Control Structure: retry loop, if-else conditions
+     */
+    public E poll() {
+        long position = head.get();
+
+        // Control Structure: Retry until an element is taken or the queue is empty
+        while (true) {
+            int slot = (int) (position & mask);
+            long turn = sequences.get(slot) - (position + 1);
+
+            if (turn == 0) {
+                // Slot is full for this position - try to claim it
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = slots.get(slot);
+                    slots.set(slot, null);
+                    sequences.set(slot, position + mask + 1);  // Free for the next lap
+                    return element;
+                }
+                position = head.get();
+            } else if (turn < 0) {
+                return null;  // Nothing published at this position yet - empty
+            } else {
+                position = head.get();  // Another consumer got here first
+            }
+        }
+    }
+
+    /**
+     * Approximate number of elements (exact when no other thread is active)
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+    public int capacity() { return mask + 1; }
+}
@@ -1,58 +1,56 @@
 import java.io.*;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Scanner;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 
 /**
  * QueueInventory - Manages inventory using a Queue (FIFO - First In First Out)
  * Demonstrates: Queue data structure, enqueue/dequeue operations, FIFO processing
  */
-public class QueueInventory {
+public class QueueInventory implements InventoryStore {
     // Variables - Queue for inventory and scanner for input
     private Queue<InventoryItem> inventoryQueue;
     private int processedCount;  // Variable: track total processed orders
+    private EngineNumberIndex<InventoryItem> engineIndex;  // Hash index for engine number lookups
+    private InventoryCounters counters;                    // Live counts by status, brand and label
+    private final JournalHook journal;                     // Change log for crash recovery (no-op until attached)
+    private AttributeIndex attributeIndex;                 // Brand/status/label -> item sets
+    private InventoryRenderer renderer;                    // Buffered, paged table output
     private Scanner scanner;
     
     // Constructor
     public QueueInventory() {
         this.inventoryQueue = new LinkedList<>();
         this.processedCount = 0;
+        this.engineIndex = new EngineNumberIndex<>();
+        this.counters = new InventoryCounters();
+        this.attributeIndex = new AttributeIndex();
         this.scanner = new Scanner(System.in);
+        this.renderer = new InventoryRenderer(scanner);
+        this.journal = new JournalHook();
     }
     
     /**
      * Load inventory from CSV file into queue
      * Input: CSV file path
      * Output: Number of items loaded
-     * Control Structure: while loop, if condition
+     * Control Structure: callback
      */
+    @Override
     public int loadInventoryFromCSV(String filename) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            
-            // Skip first two header lines
-            br.readLine();
-            br.readLine();
-            
-            // Control Structure: While loop to read all records
-            while ((line = br.readLine()) != null) {
-                // Parse CSV line
-                String[] data = line.split(",");
-                
-                // Control Structure: If condition to validate data
-                if (data.length >= 5) {
-                    // Create new inventory item
-                    InventoryItem item = new InventoryItem(
-                        data[0].trim(),  // dateEntered
-                        data[1].trim(),  // stockLabel
-                        data[2].trim(),  // brand
-                        data[3].trim(),  // engineNumber
-                        data[4].trim()   // status
-                    );
-                    inventoryQueue.offer(item);  // Enqueue to queue
-                }
-            }
-            
+        try {
+            // Shared reader parses each record in file order
+            InventorySnapshot.loadCached(filename, item -> {
+                inventoryQueue.offer(item);  // Enqueue to queue
+                trackAdded(item);
+                return true;
+            });
+
             // Output: Display load confirmation
             System.out.println("Loaded " + inventoryQueue.size() + " items into queue.");
             return inventoryQueue.size();
@@ -69,11 +67,23 @@ public class QueueInventory {
      * Output: Confirmation message
      */
     public void enqueueItem(InventoryItem item) {
-        inventoryQueue.offer(item);  // Add to queue
+        add(item);
         // Output: Confirmation
         System.out.println("Item enqueued: " + item.getEngineNumber());
     }
     
+    /**
+     * Enqueue an item without printing (InventoryStore)
+     * Input: Item
+     * Output: true (the queue has no capacity limit)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        inventoryQueue.offer(item);  // Add to queue
+        trackAdded(item);
+        return true;
+    }
+    
     /**
      * Dequeue item from front of queue
      * Output: Dequeued item or null if empty
@@ -86,6 +96,7 @@ public class QueueInventory {
             return null;
         } else {
             InventoryItem item = inventoryQueue.poll();  // Remove from queue
+            trackRemoved(item);
             // Output: Display dequeued item
             System.out.println("\nDequeued item:");
             System.out.println(InventoryItem.getHeader());
@@ -117,7 +128,7 @@ public class QueueInventory {
     /**
      * Display all items in queue (non-destructive)
      * Output: All items in queue
-     * Control Structure: if-else, for-each loop
+     * Control Structure: if-else, paged output (InventoryRenderer)
      */
     public void displayQueue() {
         // Output: Print header
@@ -130,55 +141,39 @@ public class QueueInventory {
             return;
         }
         
-        System.out.println(InventoryItem.getHeader());
-        System.out.println("=".repeat(80));
-        
-        int position = 1;
-        
-        // Control Structure: For-each loop to display items
-        for (InventoryItem item : inventoryQueue) {
-            System.out.println(position + ". " + item.toString());
-            position++;
-        }
+        // Output: Rows go through one reusable buffer, a page at a time
+        renderer.printTable(inventoryQueue);
     }
     
     /**
-     * Process orders (dequeue on-hand items first)
+     * Process orders (sell on-hand items first)
      * Input: Number of orders to process
      * Output: Number of orders processed
-     * Control Structure: while loops, if condition
+     * Control Structure: for-each loop, if conditions
      */
     public void processOrders(int numOrders) {
         int processed = 0;  // Variable: counter for processed orders
-        Queue<InventoryItem> tempQueue = new LinkedList<>();
         
         System.out.println("\n=== Processing Orders ===");
         
-        // Control Structure: Loop through queue
-        while (!inventoryQueue.isEmpty() && processed < numOrders) {
-            InventoryItem item = inventoryQueue.poll();
+        // Control Structure: Walk the queue front to back - items are marked in place,
+        // so the queue keeps its order without being drained and rebuilt
+        for (InventoryItem item : inventoryQueue) {
+            if (processed >= numOrders) {
+                break;
+            }
             
             // Control Structure: Check if on-hand
-            if (item.getStatus().equalsIgnoreCase("On-hand")) {
+            if (item.getStatusId() == ValueIds.ON_HAND) {
                 processed++;
                 processedCount++;
                 // Output: Processing confirmation
                 System.out.println("Processing order " + processed + ": " + 
                                    item.getBrand() + " - " + item.getEngineNumber());
-                item.setStatus("Sold");  // Update status
+                changeStatus(item, "Sold");  // Update status (and live counters)
             }
-            
-            tempQueue.offer(item);  // Add to temp queue
-        }
-        
-        // Control Structure: Transfer remaining items
-        while (!inventoryQueue.isEmpty()) {
-            tempQueue.offer(inventoryQueue.poll());
         }
         
-        // Restore to original queue
-        inventoryQueue = tempQueue;
-        
         // Output: Summary
         System.out.println("\n--- Order Processing Summary ---");
         System.out.println("Total orders processed: " + processed);
@@ -186,24 +181,67 @@ public class QueueInventory {
         System.out.println("Remaining queue size: " + inventoryQueue.size());
     }
     
+    /**
+     * Process orders with several producer and worker threads
+     * Producers share one front-to-back scan of the queue: each claims the next
+     * on-hand item (a short lock around the scan step only) and submits it right
+     * away, while workers are already selling earlier orders. The first
+     * numOrders on-hand items are sold (the same items processOrders would
+     * sell); only the order in which they are marked Sold is not FIFO
+     * Input: Number of orders to process, producer threads, worker threads
+     * Output: Number of orders processed
+     * Control Structure: for loop, while loop
+     */
+    public int processOrdersConcurrently(int numOrders, int producers, int workers) {
+        OrderScan scan = new OrderScan(inventoryQueue.iterator(), numOrders);
+        OrderProcessor processor = new OrderProcessor(this::recordStatusChange, 1024, workers, numOrders);
+        Thread[] producerThreads = new Thread[producers];
+        long start = System.nanoTime();
+        
+        // Control Structure: Each producer claims and submits items until the scan is done
+        for (int p = 0; p < producers; p++) {
+            producerThreads[p] = new Thread(() -> {
+                InventoryItem item;
+                while ((item = scan.next()) != null) {
+                    processor.submit(item);
+                }
+            }, "order-producer-" + (p + 1));
+            producerThreads[p].start();
+        }
+        
+        try {
+            for (Thread producer : producerThreads) {
+                producer.join();
+            }
+            processor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Order processing interrupted.");
+        }
+        
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        processedCount += processor.getSold();
+        
+        // Output: Summary
+        System.out.println("\n--- Concurrent Order Processing Summary ---");
+        System.out.println("Producers: " + producers + ", workers: " + workers);
+        System.out.println("Total orders processed: " + processor.getSold());
+        System.out.println("Orders skipped (not on hand or over limit): " + processor.getSkipped());
+        System.out.println("Total orders processed today: " + processedCount);
+        System.out.println("Time: " + elapsedMs + " ms");
+        return processor.getSold();
+    }
+    
     /**
      * Filter queue by brand (non-destructive display)
      * Input: Brand name
      * Output: Filtered items
-     * Control Structure: for-each loop, if condition
+     * Control Structure: if condition, for-each loop
      */
     public void filterByBrand(String brandName) {
-        Queue<InventoryItem> filteredQueue = new LinkedList<>();
-        int count = 0;
-        
-        // Control Structure: Process entire queue
-        for (InventoryItem item : inventoryQueue) {
-            // Control Structure: Check brand match
-            if (item.getBrand().equalsIgnoreCase(brandName)) {
-                filteredQueue.offer(item);
-                count++;
-            }
-        }
+        // Index lookup in queue order - only the matching items are visited
+        List<InventoryItem> filteredQueue = attributeIndex.find(brandName, null, null);
+        int count = filteredQueue.size();
         
         // Output: Display filtered results
         System.out.println("\n=== Filtered Results: " + brandName + " ===");
@@ -211,14 +249,8 @@ public class QueueInventory {
         
         // Control Structure: Display filtered items
         if (!filteredQueue.isEmpty()) {
-            System.out.println(InventoryItem.getHeader());
-            System.out.println("=".repeat(80));
-            
-            int position = 1;
-            for (InventoryItem item : filteredQueue) {
-                System.out.println(position + ". " + item.toString());
-                position++;
-            }
+            // Output: Rows go through one reusable buffer, a page at a time
+            renderer.printTable(filteredQueue);
         }
     }
     
@@ -226,20 +258,12 @@ public class QueueInventory {
      * Filter queue by status
      * Input: Status (On-hand or Sold)
      * Output: Filtered items
-     * Control Structure: for-each loop, if condition
+     * Control Structure: if condition, for-each loop
      */
     public void filterByStatus(String status) {
-        Queue<InventoryItem> filteredQueue = new LinkedList<>();
-        int count = 0;
-        
-        // Control Structure: Process entire queue
-        for (InventoryItem item : inventoryQueue) {
-            // Control Structure: Check status match
-            if (item.getStatus().equalsIgnoreCase(status)) {
-                filteredQueue.offer(item);
-                count++;
-            }
-        }
+        // Index lookup in queue order - only the matching items are visited
+        List<InventoryItem> filteredQueue = attributeIndex.find(null, status, null);
+        int count = filteredQueue.size();
         
         // Output: Display filtered results
         System.out.println("\n=== Filtered Results: " + status + " ===");
@@ -247,35 +271,247 @@ public class QueueInventory {
         
         // Control Structure: Display filtered items
         if (!filteredQueue.isEmpty()) {
-            System.out.println(InventoryItem.getHeader());
-            System.out.println("=".repeat(80));
-            
-            int position = 1;
-            for (InventoryItem item : filteredQueue) {
-                System.out.println(position + ". " + item.toString());
-                position++;
-            }
+            // Output: Rows go through one reusable buffer, a page at a time
+            renderer.printTable(filteredQueue);
         }
     }
     
+    /**
+     * Items matching a combination of brand, status and stock label
+     * Input: Brand, status, stock label (null or empty means "any")
+     * Output: Matching items in queue order
+     */
+    public List<InventoryItem> filterBy(String brand, String status, String label) {
+        // Intersection of the index sets, e.g. Honda AND On-hand AND New
+        return attributeIndex.find(anyIfEmpty(brand), anyIfEmpty(status), anyIfEmpty(label));
+    }
+    
+    /**
+     * Items matching an ad-hoc query over brand, status, stock label and month
+     * Input: Query, e.g. BitmapQuery.brand("Honda").and(BitmapQuery.month(2023, 3))
+     * Output: Matching items in queue order
+     */
+    public List<InventoryItem> findMatching(BitmapQuery query) {
+        return attributeIndex.find(query);
+    }
+    
+    /**
+     * Number of items matching an ad-hoc query (no item list is built)
+     * Input: Query
+     * Output: Count of matching items
+     */
+    public int countMatching(BitmapQuery query) {
+        return attributeIndex.count(query);
+    }
+    
+    /**
+     * Search for item by engine number using the hash index
+     * Input: Engine number
+     * Output: Found item or null
+     */
+    @Override
+    public InventoryItem searchByEngineNumber(String engineNum) {
+        // O(1) average - no walk through the queue
+        return engineIndex.get(engineNum);
+    }
+    
     /**
      * Count items by brand
      * Input: Brand name
      * Output: Count of matching items
-     * Control Structure: for-each loop, if condition
      */
+    @Override
     public int countByBrand(String brandName) {
-        int count = 0;
-        
-        // Control Structure: Count through queue
-        for (InventoryItem item : inventoryQueue) {
-            // Control Structure: Check brand match
-            if (item.getBrand().equalsIgnoreCase(brandName)) {
-                count++;
+        // O(1) read of the live counter - no traversal
+        return counters.getBrandCount(brandName);
+    }
+    
+    /**
+     * Count items by status
+     * Input: Status (On-hand or Sold)
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByStatus(String status) {
+        // O(1) read of the live counter - no traversal
+        return counters.getStatusCount(status);
+    }
+    
+    /**
+     * Remove one item from anywhere in the queue (InventoryStore)
+     * Input: Engine number
+     * Output: true if removed
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        InventoryItem target = engineIndex.get(engineNumber);
+        // InventoryItem has no equals(), so this removes exactly this object
+        if (target == null || !inventoryQueue.remove(target)) {
+            return false;
+        }
+        trackRemoved(target);
+        return true;
+    }
+    
+    /**
+     * Remove many items at once (InventoryStore)
+     * One compaction pass over the queue instead of one shift per item
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loops
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        // InventoryItem has no equals(), so the set holds these exact objects
+        Set<InventoryItem> targets = new LinkedHashSet<>();
+        for (String engineNumber : engineNumbers) {
+            InventoryItem item = engineIndex.get(engineNumber);
+            if (item != null) {
+                targets.add(item);
             }
         }
-        
-        return count;
+        inventoryQueue.removeIf(targets::contains);
+        for (InventoryItem item : targets) {
+            trackRemoved(item);
+        }
+        return targets.size();
+    }
+    
+    /**
+     * Change an item's status without printing (InventoryStore)
+     * Input: Engine number, new status
+     * Output: true if the item exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeStatus(item, newStatus);
+        return true;
+    }
+    
+    /**
+     * Change the stock label of an item by engine number (InventoryStore)
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeLabel(item, newLabel);
+        return true;
+    }
+    
+    // Index lookups, results in queue order
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        return attributeIndex.find(brand, null, null);
+    }
+    
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        return attributeIndex.find(null, status, null);
+    }
+    
+    @Override
+    public int size() {
+        return inventoryQueue.size();
+    }
+    
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return inventoryQueue.iterator();  // Front to back, nothing is dequeued
+    }
+    
+    /**
+     * Get the live counters (counts by status, brand and stock label)
+     * Output: Counters kept up to date by every add, remove and status change
+     */
+    public InventoryCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is added
+     * Input: Added item
+     */
+    private void trackAdded(InventoryItem item) {
+        engineIndex.put(item.getEngineNumber(), item);
+        counters.itemAdded(item);
+        attributeIndex.add(item);
+        journal.recordAdd(item);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is removed
+     * Input: Removed item
+     */
+    private void trackRemoved(InventoryItem item) {
+        engineIndex.remove(item.getEngineNumber(), item);
+        counters.itemRemoved(item);
+        attributeIndex.remove(item);
+        journal.recordRemove(item.getEngineNumber());
+    }
+    
+    /**
+     * Change an item's status and keep the counters and indexes in sync
+     * Input: Item, new status
+     */
+    private void changeStatus(InventoryItem item, String newStatus) {
+        // Same lock as OrderProcessor.claim, so order workers never see half a change
+        synchronized (item) {
+            String oldStatus = item.getStatus();
+            item.setStatus(newStatus);
+            recordStatusChange(item, oldStatus);
+        }
+    }
+    
+    /**
+     * Change an item's stock label and keep the counters and indexes in sync
+     * Input: Item, new label
+     */
+    private void changeLabel(InventoryItem item, String newLabel) {
+        String oldLabel = item.getStockLabel();
+        item.setStockLabel(newLabel);
+        counters.labelChanged(oldLabel, newLabel);
+        synchronized (attributeIndex) {  // Workers may report sales at the same time
+            attributeIndex.labelChanged(item, oldLabel);
+        }
+        journal.recordLabel(item.getEngineNumber(), newLabel);
+    }
+    
+    /**
+     * Update the counters and indexes after an item's status was set
+     * (also called by order worker threads)
+     * Input: Item, status it had before
+     */
+    private void recordStatusChange(InventoryItem item, String oldStatus) {
+        counters.statusChanged(oldStatus, item.getStatus());
+        synchronized (attributeIndex) {  // Workers may report sales at the same time
+            attributeIndex.statusChanged(item, oldStatus);
+        }
+        journal.recordStatus(item.getEngineNumber(), item.getStatus());
+    }
+    
+    /**
+     * Treat an empty filter value as "any"
+     */
+    private static String anyIfEmpty(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
     }
     
     /**
@@ -292,7 +528,10 @@ public class QueueInventory {
         System.out.println("6. Filter by Brand");
         System.out.println("7. Filter by Status");
         System.out.println("8. Count by Brand");
-        System.out.println("9. Exit");
+        System.out.println("9. Process Orders (parallel workers)");
+        System.out.println("10. Filter by Brand/Status/Label");
+        System.out.println("11. Query by Month");
+        System.out.println("12. Exit");
         System.out.print("Enter choice: ");
     }
     
@@ -375,6 +614,58 @@ public class QueueInventory {
                     break;
                     
                 case 9:
+                    // Process orders with worker threads
+                    System.out.print("Enter number of orders to process: ");
+                    int parallelOrders = scanner.nextInt();
+                    System.out.print("Enter number of producer threads: ");
+                    int producerCount = scanner.nextInt();
+                    System.out.print("Enter number of worker threads: ");
+                    int workerCount = scanner.nextInt();
+                    scanner.nextLine();
+                    processOrdersConcurrently(parallelOrders, Math.max(1, producerCount), Math.max(1, workerCount));
+                    break;
+                    
+                case 10:
+                    // Filter by any combination of brand, status and stock label
+                    System.out.print("Brand (blank = any): ");
+                    String anyBrand = scanner.nextLine();
+                    System.out.print("Status (blank = any): ");
+                    String anyStatus = scanner.nextLine();
+                    System.out.print("Stock Label (blank = any): ");
+                    String anyLabel = scanner.nextLine();
+                    List<InventoryItem> combined = filterBy(anyBrand, anyStatus, anyLabel);
+                    
+                    System.out.println("\nFound " + combined.size() + " items");
+                    if (!combined.isEmpty()) {
+                        renderer.printTable(combined);
+                    }
+                    break;
+                    
+                case 11:
+                    // Count items entered in a month, then list them on request
+                    System.out.print("Enter year and month (e.g. 2023 3): ");
+                    int year = scanner.nextInt();
+                    int month = scanner.nextInt();
+                    scanner.nextLine();
+                    System.out.print("Brand (blank = any): ");
+                    String monthBrand = scanner.nextLine();
+                    System.out.print("Status (blank = any): ");
+                    String monthStatus = scanner.nextLine();
+                    BitmapQuery query = BitmapQuery.month(year, month)
+                        .and(BitmapQuery.allOf(anyIfEmpty(monthBrand), anyIfEmpty(monthStatus), null));
+                    
+                    // Count first - no item list is built unless asked for
+                    int matches = countMatching(query);
+                    System.out.println("\nFound " + matches + " items entered in " + month + "/" + year);
+                    if (matches > 0) {
+                        System.out.print("Display them? (y/n): ");
+                        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                            renderer.printTable(findMatching(query));
+                        }
+                    }
+                    break;
+                    
+                case 12:
                     // Exit
                     System.out.println("Exiting Queue Inventory System...");
                     break;
@@ -382,7 +673,39 @@ public class QueueInventory {
                 default:
                     System.out.println("Invalid choice! Please try again.");
             }
-        } while (choice != 9);  // Control Structure: Continue until exit
+        } while (choice != 12);  // Control Structure: Continue until exit
+    }
+    
+    /**
+     * OrderScan - One scan of the queue shared by the order producers
+     * Hands out on-hand items in queue order, each at most once, up to a limit
+     */
+    private static class OrderScan {
+        private final Iterator<InventoryItem> items;
+        private final int limit;
+        private int taken;  // Items handed out so far
+
+        OrderScan(Iterator<InventoryItem> items, int limit) {
+            this.items = items;
+            this.limit = limit;
+            this.taken = 0;
+        }
+
+        /**
+         * Claim the next on-hand item
+         * Output: Item to submit, or null once the limit or the end of the queue is reached
+         * Control Structure: while loop, if condition
+         */
+        synchronized InventoryItem next() {
+            while (taken < limit && items.hasNext()) {
+                InventoryItem item = items.next();
+                if (item.getStatusId() == ValueIds.ON_HAND) {
+                    taken++;
+                    return item;
+                }
+            }
+            return null;
+        }
     }
     
     /**
@@ -0,0 +1,202 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * SegmentedArray - Growable array made of fixed-size chunks (segments)
+ * Demonstrates: two-level arrays, bit-shift indexing, growth without copying
+ *
+ * HOW IT WORKS:
+ * - Elements live in segments of SEGMENT_SIZE (a power of two) slots each
+ * - Element i is in segment (i >> SEGMENT_BITS) at slot (i & SEGMENT_MASK),
+ *   so indexed access is two array reads - still O(1)
+ * - When the last segment is full a new segment is allocated; the elements
+ *   already stored are never copied (only the small "spine" of segment
+ *   references doubles now and then)
+ * - Inside a segment the elements are contiguous, so a front-to-back scan
+ *   reads memory in order just like a plain array
+ *
+ * Not thread-safe.
+ */
+public class SegmentedArray<E> implements Iterable<E> {
+    // Variables - Segment geometry, spine of segments and element count
+    private static final int SEGMENT_BITS = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;  // 1024 elements per segment
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private Object[][] segments;  // Spine: segments[s] holds elements s*SEGMENT_SIZE ...
+    private int segmentCount;     // Segments allocated so far
+    private int size;
+
+    // Constructor
+    public SegmentedArray() {
+        this.segments = new Object[4][];
+        this.segmentCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Append an element at the end (O(1), never copies existing elements)
+     * Input: Element
+     * Output: Index of the new element
+     */
+    public int add(E element) {
+        int segment = size >>> SEGMENT_BITS;
+
+        // Control Structure: Start a new segment when the last one is full
+        if (segment == segmentCount) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount * 2);  // Copies references to segments only
+            }
+            segments[segmentCount++] = new Object[SEGMENT_SIZE];
+        }
+        segments[segment][size & SEGMENT_MASK] = element;
+        return size++;
+    }
+
+    /**
+     * Element at an index
+     * Input: Index (0-based)
+     * Output: Element
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) segments[index >>> SEGMENT_BITS][index & SEGMENT_MASK];
+    }
+
+    /**
+     * Replace the element at an index
+     * Input: Index, new element
+     * Output: Previous element
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        Object[] segment = segments[index >>> SEGMENT_BITS];
+        E previous = (E) segment[index & SEGMENT_MASK];
+        segment[index & SEGMENT_MASK] = element;
+        return previous;
+    }
+
+    /**
+     * Remove the element at an index, shifting the later elements down by one
+     * Input: Index
+     * Output: Removed element
+     * Control Structure: while loop (one block copy per segment)
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        int lastSegment = (size - 1) >>> SEGMENT_BITS;
+        int segment = index >>> SEGMENT_BITS;
+        int slot = index & SEGMENT_MASK;
+        E removed = (E) segments[segment][slot];
+
+        // Control Structure: Shift inside each segment, then pull in the next segment's first element
+        while (true) {
+            Object[] current = segments[segment];
+            int end = (segment == lastSegment) ? ((size - 1) & SEGMENT_MASK) : SEGMENT_MASK;
+            System.arraycopy(current, slot + 1, current, slot, end - slot);
+            if (segment == lastSegment) {
+                current[end] = null;
+                break;
+            }
+            current[SEGMENT_MASK] = segments[segment + 1][0];
+            segment++;
+            slot = 0;
+        }
+        size--;
+
+        // Control Structure: Release the last segment once it is empty
+        if ((size & SEGMENT_MASK) == 0 && segmentCount > (size >>> SEGMENT_BITS)) {
+            segments[--segmentCount] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every element matching a condition in one pass
+     * (kept elements slide down over the gaps, each moved once)
+     * Input: Condition
+     * Output: Number of removed elements
+     * Control Structure: for loops, if condition
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(Predicate<? super E> condition) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            E element = (E) segments[i >>> SEGMENT_BITS][i & SEGMENT_MASK];
+            if (!condition.test(element)) {
+                segments[kept >>> SEGMENT_BITS][kept & SEGMENT_MASK] = element;
+                kept++;
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            segments[i >>> SEGMENT_BITS][i & SEGMENT_MASK] = null;
+        }
+        int removed = size - kept;
+        size = kept;
+
+        // Control Structure: Release segments that are now empty
+        int needed = (size + SEGMENT_MASK) >>> SEGMENT_BITS;
+        while (segmentCount > needed) {
+            segments[--segmentCount] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every element (segments are released)
+     */
+    public void clear() {
+        Arrays.fill(segments, 0, segmentCount, null);
+        segmentCount = 0;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Iterate front to back, one segment at a time
+     * Output: Iterator over the elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+            private Object[] segment = null;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                int slot = next & SEGMENT_MASK;
+                // Control Structure: Only look up the segment when crossing into a new one
+                if (slot == 0 || segment == null) {
+                    segment = segments[next >>> SEGMENT_BITS];
+                }
+                next++;
+                return (E) segment[slot];
+            }
+        };
+    }
+
+    /**
+     * Validate an index
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+    }
+}
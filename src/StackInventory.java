@@ -1,63 +1,51 @@
 import java.io.*;
-import java.util.Scanner;
-import java.util.Stack;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Scanner;
+import java.util.Set;
 
 /**
  * StackInventory - Manages inventory using a Stack (LIFO - Last In First Out)
  * Demonstrates: Stack data structure, push/pop operations, LIFO processing
  */
-public class StackInventory {
+public class StackInventory implements InventoryStore {
     // Variables - Stack for inventory and scanner for input
-    private Stack<InventoryItem> inventoryStack;
+    private InventoryStack<InventoryItem> inventoryStack;  // Array-backed, readable without popping
+    private EngineNumberIndex<InventoryItem> engineIndex;  // Hash index for engine number lookups
+    private InventoryCounters counters;                    // Live counts by status, brand and label
+    private final JournalHook journal;                     // Change log for crash recovery (no-op until attached)
+    private InventoryRenderer renderer;                    // Buffered, paged table output
     private Scanner scanner;
     
     // Constructor
     public StackInventory() {
-        this.inventoryStack = new Stack<>();
+        this.inventoryStack = new InventoryStack<>();
+        this.engineIndex = new EngineNumberIndex<>();
+        this.counters = new InventoryCounters();
         this.scanner = new Scanner(System.in);
+        this.renderer = new InventoryRenderer(scanner);
+        this.journal = new JournalHook();
     }
     
     /**
      * Load inventory from CSV file
      * Input: CSV file path
      * Output: Number of items loaded
-     * Control Structure: while loop, for-each loop
+     * Control Structure: callback
      */
+    @Override
     public int loadInventoryFromCSV(String filename) {
-        ArrayList<InventoryItem> tempStorage = new ArrayList<>();  // Temporary storage
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            
-            // Skip first two header lines
-            br.readLine();
-            br.readLine();
-            
-            // Control Structure: While loop to read all records
-            while ((line = br.readLine()) != null) {
-                // Parse CSV line
-                String[] data = line.split(",");
-                
-                // Control Structure: If condition to validate data
-                if (data.length >= 5) {
-                    // Create new inventory item
-                    InventoryItem item = new InventoryItem(
-                        data[0].trim(),  // dateEntered
-                        data[1].trim(),  // stockLabel
-                        data[2].trim(),  // brand
-                        data[3].trim(),  // engineNumber
-                        data[4].trim()   // status
-                    );
-                    tempStorage.add(item);
-                }
-            }
-            
-            // Control Structure: For-each loop to push items onto stack
-            for (InventoryItem item : tempStorage) {
+        try {
+            // Records arrive in file order, so the last row ends up on top
+            InventorySnapshot.loadCached(filename, item -> {
                 inventoryStack.push(item);  // Push to stack
-            }
-            
+                trackAdded(item);
+                return true;
+            });
+
             // Output: Display load confirmation
             System.out.println("Loaded " + inventoryStack.size() + " items into stack.");
             return inventoryStack.size();
@@ -74,11 +62,23 @@ public class StackInventory {
      * Output: Confirmation message
      */
     public void pushItem(InventoryItem item) {
-        inventoryStack.push(item);  // Push to stack
+        add(item);
         // Output: Confirmation
         System.out.println("Item pushed to stack: " + item.getEngineNumber());
     }
     
+    /**
+     * Push an item without printing (InventoryStore)
+     * Input: Item
+     * Output: true (the stack has no capacity limit)
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        inventoryStack.push(item);  // Push to stack
+        trackAdded(item);
+        return true;
+    }
+    
     /**
      * Pop item from stack
      * Output: Popped item or null if empty
@@ -91,6 +91,7 @@ public class StackInventory {
             return null;
         } else {
             InventoryItem item = inventoryStack.pop();  // Pop from stack
+            trackRemoved(item);
             // Output: Display popped item
             System.out.println("\nPopped item:");
             System.out.println(InventoryItem.getHeader());
@@ -122,7 +123,7 @@ public class StackInventory {
     /**
      * Display all items in stack (non-destructive)
      * Output: All items in stack
-     * Control Structure: if-else, while loops
+     * Control Structure: if-else, paged output (InventoryRenderer)
      */
     public void displayStack() {
         // Output: Print header
@@ -135,55 +136,28 @@ public class StackInventory {
             return;
         }
         
-        System.out.println(InventoryItem.getHeader());
-        System.out.println("=".repeat(80));
-        
-        // Create temporary stack for non-destructive display
-        Stack<InventoryItem> tempStack = new Stack<>();
-        int position = 1;
-        
-        // Control Structure: While loop to pop all items for display
-        while (!inventoryStack.isEmpty()) {
-            InventoryItem item = inventoryStack.pop();
-            System.out.println(position + ". " + item.toString());
-            tempStack.push(item);  // Save to temp stack
-            position++;
-        }
-        
-        // Control Structure: While loop to restore original stack
-        while (!tempStack.isEmpty()) {
-            inventoryStack.push(tempStack.pop());
-        }
+        // Output: Rows go through one reusable buffer, a page at a time
+        renderer.printTable(inventoryStack);
     }
     
     /**
      * Process sold items (remove from stack)
      * Output: Number of sold items processed
-     * Control Structure: while loops, if condition
+     * Control Structure: callback, if condition
      */
     public void processSoldItems() {
-        int soldCount = 0;  // Variable: counter for sold items
-        Stack<InventoryItem> tempStack = new Stack<>();
-        
-        // Control Structure: Process entire stack
-        while (!inventoryStack.isEmpty()) {
-            InventoryItem item = inventoryStack.pop();
-            
+        // Control Structure: One top-down pass removes sold items in place;
+        // on-hand items keep their order without a temporary stack
+        int soldCount = inventoryStack.removeIf(item -> {
             // Control Structure: Check if sold
-            if (item.getStatus().equalsIgnoreCase("Sold")) {
-                soldCount++;
-                // Output: Processing confirmation
-                System.out.println("Processed sold item: " + item.getEngineNumber());
-            } else {
-                // Keep on-hand items
-                tempStack.push(item);
+            if (item.getStatusId() != ValueIds.SOLD) {
+                return false;  // Keep on-hand items
             }
-        }
-        
-        // Control Structure: Restore on-hand items to stack
-        while (!tempStack.isEmpty()) {
-            inventoryStack.push(tempStack.pop());
-        }
+            trackRemoved(item);
+            // Output: Processing confirmation
+            System.out.println("Processed sold item: " + item.getEngineNumber());
+            return true;
+        });
         
         // Output: Summary
         System.out.println("\nTotal sold items processed (removed): " + soldCount);
@@ -194,58 +168,211 @@ public class StackInventory {
      * Search for item by engine number (non-destructive)
      * Input: Engine number
      * Output: Found item or null
-     * Control Structure: while loops, if condition
      */
+    @Override
     public InventoryItem searchByEngineNumber(String engineNum) {
-        Stack<InventoryItem> tempStack = new Stack<>();
-        InventoryItem foundItem = null;
-        
-        // Control Structure: Search through stack
-        while (!inventoryStack.isEmpty()) {
-            InventoryItem item = inventoryStack.pop();
-            
-            // Control Structure: Check if match found
-            if (item.getEngineNumber().equalsIgnoreCase(engineNum)) {
-                foundItem = item;  // Save found item
+        // Hash index lookup - the stack is never popped or rebuilt
+        return engineIndex.get(engineNum);
+    }
+    
+    /**
+     * Count items by brand
+     * Input: Brand name
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByBrand(String brandName) {
+        // O(1) read of the live counter - no traversal
+        return counters.getBrandCount(brandName);
+    }
+    
+    /**
+     * Count items by status
+     * Input: Status (On-hand or Sold)
+     * Output: Count of matching items
+     */
+    @Override
+    public int countByStatus(String status) {
+        // O(1) read of the live counter - no traversal
+        return counters.getStatusCount(status);
+    }
+    
+    /**
+     * Remove one item from anywhere in the stack (InventoryStore)
+     * Input: Engine number
+     * Output: true if removed
+     * Control Structure: if condition
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        InventoryItem target = engineIndex.get(engineNumber);
+        if (target == null) {
+            return false;
+        }
+        // Items above and below keep their order - no temporary stack; exactly one
+        // entry leaves the stack, matching the single trackRemoved below
+        inventoryStack.remove(target);
+        trackRemoved(target);
+        return true;
+    }
+    
+    /**
+     * Remove many items at once (InventoryStore)
+     * One compaction pass over the stack instead of one shift per item
+     * Input: Engine numbers
+     * Output: Number of items removed
+     * Control Structure: for-each loops
+     */
+    @Override
+    public int removeAll(Collection<String> engineNumbers) {
+        // InventoryItem has no equals(), so the set holds these exact objects
+        Set<InventoryItem> targets = new LinkedHashSet<>();
+        for (String engineNumber : engineNumbers) {
+            InventoryItem item = engineIndex.get(engineNumber);
+            if (item != null) {
+                targets.add(item);
             }
-            tempStack.push(item);
         }
-        
-        // Control Structure: Restore stack
-        while (!tempStack.isEmpty()) {
-            inventoryStack.push(tempStack.pop());
+        inventoryStack.removeIf(targets::contains);
+        for (InventoryItem item : targets) {
+            trackRemoved(item);
         }
-        
-        return foundItem;
+        return targets.size();
     }
     
     /**
-     * Count items by brand (non-destructive)
+     * Change an item's status without printing (InventoryStore)
+     * Input: Engine number, new status
+     * Output: true if the item exists
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeStatus(item, newStatus);
+        return true;
+    }
+    
+    /**
+     * Change the stock label of an item by engine number (InventoryStore)
+     * Input: Engine number, new label
+     * Output: true if updated, false if not found
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        InventoryItem item = engineIndex.get(engineNumber);
+        if (item == null) {
+            return false;
+        }
+        changeLabel(item, newLabel);
+        return true;
+    }
+    
+    /**
+     * Items of a brand, top of the stack first
      * Input: Brand name
-     * Output: Count of matching items
-     * Control Structure: while loops, if condition
+     * Output: Matching items
+     * Control Structure: for-each loop
      */
-    public int countByBrand(String brandName) {
-        int count = 0;
-        Stack<InventoryItem> tempStack = new Stack<>();
-        
-        // Control Structure: Count through stack
-        while (!inventoryStack.isEmpty()) {
-            InventoryItem item = inventoryStack.pop();
-            
-            // Control Structure: Check brand match
-            if (item.getBrand().equalsIgnoreCase(brandName)) {
-                count++;
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        List<InventoryItem> result = new ArrayList<>();
+        int brandId = ValueIds.find(brand);  // Folded once per query, not once per item
+        for (InventoryItem item : inventoryStack) {
+            if (item.getBrandId() == brandId) {
+                result.add(item);
             }
-            tempStack.push(item);
         }
-        
-        // Control Structure: Restore stack
-        while (!tempStack.isEmpty()) {
-            inventoryStack.push(tempStack.pop());
+        return result;
+    }
+    
+    /**
+     * Items with a status, top of the stack first
+     * Input: Status
+     * Output: Matching items
+     * Control Structure: for-each loop
+     */
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        List<InventoryItem> result = new ArrayList<>();
+        int statusId = ValueIds.find(status);  // Folded once per query, not once per item
+        for (InventoryItem item : inventoryStack) {
+            if (item.getStatusId() == statusId) {
+                result.add(item);
+            }
         }
-        
-        return count;
+        return result;
+    }
+    
+    @Override
+    public int size() {
+        return inventoryStack.size();
+    }
+    
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return inventoryStack.iterator();  // Top to bottom, nothing is popped
+    }
+    
+    /**
+     * Get the live counters (counts by status, brand and stock label)
+     * Output: Counters kept up to date by every add, remove and status change
+     */
+    public InventoryCounters getCounters() {
+        return counters;
+    }
+    
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is added
+     * Input: Added item
+     */
+    private void trackAdded(InventoryItem item) {
+        engineIndex.put(item.getEngineNumber(), item);
+        counters.itemAdded(item);
+        journal.recordAdd(item);
+    }
+    
+    /**
+     * Keep the engine index and counters in sync after an item is removed
+     * Input: Removed item
+     */
+    private void trackRemoved(InventoryItem item) {
+        engineIndex.remove(item.getEngineNumber(), item);
+        counters.itemRemoved(item);
+        journal.recordRemove(item.getEngineNumber());
+    }
+    
+    /**
+     * Change an item's status and keep the counters in sync
+     * Input: Item, new status
+     */
+    private void changeStatus(InventoryItem item, String newStatus) {
+        String oldStatus = item.getStatus();
+        item.setStatus(newStatus);
+        counters.statusChanged(oldStatus, newStatus);
+        journal.recordStatus(item.getEngineNumber(), newStatus);
+    }
+    
+    /**
+     * Change an item's stock label and keep the counters in sync
+     * Input: Item, new label
+     */
+    private void changeLabel(InventoryItem item, String newLabel) {
+        String oldLabel = item.getStockLabel();
+        item.setStockLabel(newLabel);
+        counters.labelChanged(oldLabel, newLabel);
+        journal.recordLabel(item.getEngineNumber(), newLabel);
     }
     
     /**
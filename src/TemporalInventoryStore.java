@@ -0,0 +1,626 @@
+import java.io.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * TemporalInventoryStore - Inventory that remembers every engine number's status over time
+ * Demonstrates: append-only change logs, bit packing, binary search over history
+ *
+ * ONE COPY PER MONTH VS ONE LOG PER ITEM:
+ * - Keeping 36 monthly inventories means 36 InventoryItem objects (and 36
+ *   sets of field references) for an engine number that sat On-hand for
+ *   three years without changing
+ * - This store keeps each engine number once (brand, label and date entered
+ *   as small columns) plus a short log of the days its status changed:
+ *     entry = day << 8 | status code     (one int per change)
+ *   An item that arrives, waits and is sold has 2 entries however many
+ *   months are loaded; a month that changes nothing adds nothing
+ * - An item missing from a month gets a NOT_PRESENT entry, so "gone" is a
+ *   status like any other and the item can come back later
+ *
+ * LOADING MONTHS:
+ * - Months are loaded oldest first with loadMonth(csv, asOfDay); every change
+ *   found in a month is dated with its as-of day (by default the end of the
+ *   month of the newest Date Entered in that file, e.g. 3/31/2023)
+ * - add/remove/setStatus made afterwards are dated today (or the last as-of
+ *   day, if that is later), so live sales extend the same history
+ *
+ * QUERIES:
+ * - statusOn(engine, day): binary search in one item's log
+ * - findByStatusOn / countByStatusOn(status, day): "what was on-hand on D",
+ *   one binary search per item (no month copy is rebuilt)
+ * - soldOn(engine): day the item was last recorded as Sold
+ *
+ * The InventoryStore methods (search, find, count, iteration) answer for the
+ * current state, so the store works anywhere the other backends do. Stock
+ * labels are kept for the current state only. Returned items are fresh copies.
+ *
+ * Usage: java TemporalInventoryStore <month csv>[@M/d/yyyy] ... [engine number]
+ */
+public class TemporalInventoryStore implements InventoryStore {
+    // Variables - Entry packing and column sizes
+    private static final int NOT_PRESENT = 0xFF;         // Status code of a day the item was not in inventory
+    private static final int MAX_CODES = 255;            // Status codes 0-254 (255 = NOT_PRESENT)
+    private static final int STATUS_BITS = 8;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int[] NO_HISTORY = new int[0];
+
+    // Dictionaries for the low-cardinality columns
+    private ValueDictionary brands;
+    private ValueDictionary labels;
+    private ValueDictionary statuses;
+
+    // Columns (item id i is entry i of every column)
+    private String[] engineColumn;
+    private String[] dateTextColumn;   // Rows of one CSV share their date Strings
+    private int[] dateColumn;
+    private byte[] brandColumn;
+    private byte[] labelColumn;
+    private int[][] history;           // Status changes per item, oldest first
+    private int[] lastSeenMonth;       // Month number that last listed the item
+
+    private EngineNumberTable ids;            // Engine number -> item id (no boxing)
+    private InventoryCounters counters;       // Current state only
+    private int itemCount;                    // Ids in use (present or not)
+    private int presentCount;                 // Items in the current inventory
+    private int monthsLoaded;
+    private int lastDay;                      // Day of the latest history entry
+    private final JournalHook journal;        // Change log for crash recovery (no-op until attached)
+
+    // Constructor
+    public TemporalInventoryStore() {
+        this.brands = new ValueDictionary(MAX_CODES);
+        this.labels = new ValueDictionary(MAX_CODES);
+        this.statuses = new ValueDictionary(MAX_CODES);
+        this.engineColumn = new String[INITIAL_CAPACITY];
+        this.dateTextColumn = new String[INITIAL_CAPACITY];
+        this.dateColumn = new int[INITIAL_CAPACITY];
+        this.brandColumn = new byte[INITIAL_CAPACITY];
+        this.labelColumn = new byte[INITIAL_CAPACITY];
+        this.history = new int[INITIAL_CAPACITY][];
+        this.lastSeenMonth = new int[INITIAL_CAPACITY];
+        this.ids = new EngineNumberTable();
+        this.counters = new InventoryCounters();
+        this.lastDay = InventoryDate.INVALID;
+        this.journal = new JournalHook();
+    }
+
+    /**
+     * Load the next month's CSV (InventoryStore)
+     * Input: CSV file path
+     * Output: Number of items in the inventory after the month
+     */
+    @Override
+    public int loadInventoryFromCSV(String filename) {
+        try {
+            int changes = loadMonth(filename, InventoryDate.INVALID);
+            System.out.println("Loaded month " + monthsLoaded + " (" + presentCount + " items, "
+                               + changes + " status changes) into temporal store.");
+            return presentCount;
+
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            return 0;
+
+        } catch (IllegalStateException e) {
+            // A byte column holds at most MAX_CODES distinct values; items read so far are kept
+            System.out.println("Error loading file: " + e.getMessage() + " (stopped with " + presentCount + " items)");
+            return presentCount;
+        }
+    }
+
+    /**
+     * Load the next month's CSV and record what changed since the previous month
+     * Input: CSV file path, as-of day of the month (InventoryDate.INVALID = end of
+     *        the month of the newest Date Entered in the file)
+     * Output: Number of status changes recorded (arrivals and departures included)
+     * Control Structure: callback with if-else conditions, for loops
+     */
+    public int loadMonth(String filename, int asOfDay) throws IOException {
+        if (asOfDay != InventoryDate.INVALID && lastDay != InventoryDate.INVALID && asOfDay < lastDay) {
+            throw new IllegalArgumentException("Months must be loaded oldest first: "
+                                               + InventoryDate.format(asOfDay) + " is before "
+                                               + InventoryDate.format(lastDay));
+        }
+        int month = monthsLoaded + 1;
+        // Changes are collected first: their day is only known after the whole file is read
+        int[][] pending = {new int[64]};   // Pairs of (item id, status code)
+        int[] pendingCount = {0};
+        int[] latestEntered = {InventoryDate.INVALID};
+
+        // Control Structure: One streaming pass over the month
+        InventoryCSVReader.load(filename, row -> {
+            int known = ids.get(row.getEngineNumber());
+            int id = known == EngineNumberTable.MISSING ? newItem(row) : known;
+            lastSeenMonth[id] = month;
+            latestEntered[0] = Math.max(latestEntered[0], row.getDateValue());
+
+            // Control Structure: Log the status only when it differs from the last entry
+            int code = statuses.encode(row.getStatus());
+            int current = currentCode(id);
+            if (code != current && (current == NOT_PRESENT
+                                    || ValueIds.of(statuses.decode(current)) != row.getStatusId())) {
+                if (pendingCount[0] + 2 > pending[0].length) {
+                    pending[0] = Arrays.copyOf(pending[0], pending[0].length * 2);
+                }
+                pending[0][pendingCount[0]++] = id;
+                pending[0][pendingCount[0]++] = code;
+            }
+
+            // Control Structure: Labels are current-state only
+            int label = labels.encode(row.getStockLabel());
+            if (label != (labelColumn[id] & 0xFF) && current != NOT_PRESENT) {
+                counters.labelChanged(labels.decode(labelColumn[id] & 0xFF), row.getStockLabel());
+            }
+            labelColumn[id] = (byte) label;
+            return true;
+        });
+
+        // Control Structure: Default as-of day - end of the newest month in the file, or the
+        // month after the previous as-of day when the file has no newer stock
+        int day = asOfDay;
+        if (day == InventoryDate.INVALID) {
+            day = InventoryDate.endOfMonth(latestEntered[0]);
+            if (lastDay != InventoryDate.INVALID && (day == InventoryDate.INVALID || day <= lastDay)) {
+                day = InventoryDate.endOfMonth(lastDay + 1);
+            } else if (day == InventoryDate.INVALID) {
+                day = (int) LocalDate.now().toEpochDay();
+            }
+        }
+
+        // Control Structure: Apply the month's changes, then mark the items it no longer lists
+        int changes = pendingCount[0] / 2;
+        for (int i = 0; i < pendingCount[0]; i += 2) {
+            changeStatus(pending[0][i], pending[0][i + 1], day);
+        }
+        for (int id = 0; id < itemCount; id++) {
+            if (lastSeenMonth[id] != month && currentCode(id) != NOT_PRESENT) {
+                changeStatus(id, NOT_PRESENT, day);
+                changes++;
+            }
+        }
+        monthsLoaded = month;
+        lastDay = day;
+        return changes;
+    }
+
+    /**
+     * Add an item, dated today (InventoryStore)
+     * Input: InventoryItem to add
+     * Output: true if added, false if the engine number is already in the inventory
+     */
+    @Override
+    public boolean add(InventoryItem item) {
+        int known = ids.get(item.getEngineNumber());
+        if (known != EngineNumberTable.MISSING && currentCode(known) != NOT_PRESENT) {
+            return false;
+        }
+        int id = known == EngineNumberTable.MISSING ? newItem(item) : known;
+        setColumns(id, item);
+        lastSeenMonth[id] = monthsLoaded;
+        changeStatus(id, statuses.encode(item.getStatus()), today());
+        journal.recordAdd(item);
+        return true;
+    }
+
+    /**
+     * Take an item out of the inventory, dated today (its history is kept)
+     * Input: Engine number
+     * Output: true if removed, false if not in the inventory
+     */
+    @Override
+    public boolean remove(String engineNumber) {
+        int id = presentId(engineNumber);
+        if (id < 0) {
+            return false;
+        }
+        changeStatus(id, NOT_PRESENT, today());
+        journal.recordRemove(engineColumn[id]);
+        return true;
+    }
+
+    /**
+     * Search the current inventory by engine number
+     * Input: Engine number
+     * Output: Copy of the item or null
+     */
+    @Override
+    public InventoryItem searchByEngineNumber(String engineNumber) {
+        int id = presentId(engineNumber);
+        return id < 0 ? null : item(id);
+    }
+
+    /**
+     * Change an item's status, dated today
+     * Input: Engine number, new status
+     * Output: true if the item is in the inventory
+     */
+    @Override
+    public boolean setStatus(String engineNumber, String newStatus) {
+        int id = presentId(engineNumber);
+        if (id < 0) {
+            return false;
+        }
+        changeStatus(id, statuses.encode(newStatus), today());
+        journal.recordStatus(engineColumn[id], newStatus);
+        return true;
+    }
+
+    /**
+     * Change an item's stock label (not kept in the history)
+     * Input: Engine number, new label
+     * Output: true if the item is in the inventory
+     */
+    @Override
+    public boolean setStockLabel(String engineNumber, String newLabel) {
+        int id = presentId(engineNumber);
+        if (id < 0) {
+            return false;
+        }
+        counters.labelChanged(labels.decode(labelColumn[id] & 0xFF), newLabel);
+        labelColumn[id] = (byte) labels.encode(newLabel);
+        journal.recordLabel(engineColumn[id], newLabel);
+        return true;
+    }
+
+    // Current-state counts and filters
+    @Override
+    public int countByBrand(String brandName) { return counters.getBrandCount(brandName); }
+    @Override
+    public int countByStatus(String status) { return counters.getStatusCount(status); }
+    public InventoryCounters getCounters() { return counters; }
+
+    @Override
+    public List<InventoryItem> findByBrand(String brand) {
+        List<InventoryItem> results = new ArrayList<>();
+        boolean[] matches = brands.matchIgnoreCase(brand);
+        for (int id = 0; id < itemCount; id++) {
+            if (matches[brandColumn[id] & 0xFF] && currentCode(id) != NOT_PRESENT) {
+                results.add(item(id));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public List<InventoryItem> findByStatus(String status) {
+        return findByStatusOn(status, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Status of an engine number on a day
+     * Input: Engine number, epoch day (see InventoryDate.parse)
+     * Output: Status, or null if the item was not in the inventory that day
+     */
+    public String statusOn(String engineNumber, int day) {
+        int id = ids.get(engineNumber);
+        if (id == EngineNumberTable.MISSING) {
+            return null;
+        }
+        int code = codeOn(id, day);
+        return code == NOT_PRESENT ? null : statuses.decode(code);
+    }
+
+    /**
+     * Items that had a status on a day, e.g. ("On-hand", parse("6/30/2023"))
+     * Input: Status (letter case ignored), epoch day
+     * Output: Copies of the items, with the status they had that day
+     * Control Structure: for loop, binary search per item
+     */
+    public List<InventoryItem> findByStatusOn(String status, int day) {
+        List<InventoryItem> results = new ArrayList<>();
+        boolean[] matches = statuses.matchIgnoreCase(status);
+        for (int id = 0; id < itemCount; id++) {
+            int code = codeOn(id, day);
+            if (code != NOT_PRESENT && matches[code]) {
+                InventoryItem item = item(id);
+                item.setStatus(statuses.decode(code));
+                results.add(item);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Number of items that had a status on a day
+     * Input: Status (letter case ignored), epoch day
+     * Output: Count
+     * Control Structure: for loop, binary search per item
+     */
+    public int countByStatusOn(String status, int day) {
+        boolean[] matches = statuses.matchIgnoreCase(status);
+        int count = 0;
+        for (int id = 0; id < itemCount; id++) {
+            int code = codeOn(id, day);
+            if (code != NOT_PRESENT && matches[code]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Day an engine number was sold (the latest change to "Sold")
+     * The day is the as-of day of the first month that listed it as Sold,
+     * or the day of the live setStatus call
+     * Input: Engine number
+     * Output: Epoch day, or InventoryDate.INVALID if it was never sold
+     * Control Structure: for loop from the newest entry back
+     */
+    public int soldOn(String engineNumber) {
+        int id = ids.get(engineNumber);
+        if (id == EngineNumberTable.MISSING) {
+            return InventoryDate.INVALID;
+        }
+        int[] log = history[id];
+        for (int i = log.length - 1; i >= 0; i--) {
+            int code = log[i] & NOT_PRESENT;
+            if (code != NOT_PRESENT && ValueIds.of(statuses.decode(code)) == ValueIds.SOLD) {
+                return log[i] >> STATUS_BITS;
+            }
+        }
+        return InventoryDate.INVALID;
+    }
+
+    /**
+     * Full status history of an engine number, oldest first
+     * Input: Engine number
+     * Output: Lines like "3/31/2023 On-hand" ("-" = not in inventory)
+     */
+    public List<String> historyOf(String engineNumber) {
+        List<String> lines = new ArrayList<>();
+        int id = ids.get(engineNumber);
+        if (id != EngineNumberTable.MISSING) {
+            for (int entry : history[id]) {
+                int code = entry & NOT_PRESENT;
+                lines.add(InventoryDate.format(entry >> STATUS_BITS) + " "
+                          + (code == NOT_PRESENT ? "-" : statuses.decode(code)));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Number of status changes kept for all items (the size of the history)
+     */
+    public long historyEntries() {
+        long entries = 0;
+        for (int id = 0; id < itemCount; id++) {
+            entries += history[id].length;
+        }
+        return entries;
+    }
+
+    public int getMonthsLoaded() { return monthsLoaded; }
+
+    @Override
+    public int size() {
+        return presentCount;
+    }
+
+    /**
+     * Record later changes in a journal (InventoryStore)
+     * Input: Open journal, or null
+     */
+    @Override
+    public void attachJournal(InventoryJournal journal) {
+        this.journal.attach(journal);
+    }
+
+    /**
+     * Iterate the current inventory in first-seen order
+     * Output: Copies of the items
+     */
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private int next = skipAbsent(0);
+
+            private int skipAbsent(int id) {
+                while (id < itemCount && currentCode(id) == NOT_PRESENT) {
+                    id++;
+                }
+                return id;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < itemCount;
+            }
+
+            @Override
+            public InventoryItem next() {
+                if (next >= itemCount) {
+                    throw new NoSuchElementException();
+                }
+                InventoryItem item = item(next);
+                next = skipAbsent(next + 1);
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Give a new engine number an id and fill its columns (not yet present)
+     * Input: Item whose engine number is not indexed
+     * Output: New id
+     */
+    private int newItem(InventoryItem item) {
+        ensureCapacity(itemCount + 1);
+        int id = itemCount++;
+        engineColumn[id] = item.getEngineNumber();
+        setColumns(id, item);
+        history[id] = NO_HISTORY;
+        ids.put(item.getEngineNumber(), id);
+        return id;
+    }
+
+    // Copy an item's date, brand and label into its columns
+    private void setColumns(int id, InventoryItem item) {
+        dateTextColumn[id] = item.getDateEntered();
+        dateColumn[id] = item.getDateValue();
+        brandColumn[id] = (byte) brands.encode(item.getBrand());
+        labelColumn[id] = (byte) labels.encode(item.getStockLabel());
+    }
+
+    /**
+     * Append a status change to an item's log and keep the counters current
+     * (a second change on the same day replaces the first)
+     * Input: Item id, new status code, day
+     * Control Structure: if-else conditions
+     */
+    private void changeStatus(int id, int code, int day) {
+        int old = currentCode(id);
+        if (code == old) {
+            return;
+        }
+
+        // Control Structure: Current-state counters
+        if (old == NOT_PRESENT) {
+            InventoryItem added = item(id);
+            added.setStatus(statuses.decode(code));
+            counters.itemAdded(added);
+            presentCount++;
+        } else if (code == NOT_PRESENT) {
+            counters.itemRemoved(item(id));
+            presentCount--;
+        } else {
+            counters.statusChanged(statuses.decode(old), statuses.decode(code));
+        }
+
+        // Control Structure: Exact-size log - most items change only a few times
+        int[] log = history[id];
+        int entry = day << STATUS_BITS | code;
+        if (log.length > 0 && log[log.length - 1] >> STATUS_BITS == day) {
+            log[log.length - 1] = entry;
+            if (log.length > 1 && (log[log.length - 2] & NOT_PRESENT) == code) {
+                history[id] = Arrays.copyOf(log, log.length - 1);  // Same-day change undone
+            } else if (log.length == 1 && code == NOT_PRESENT) {
+                history[id] = NO_HISTORY;                            // Added and removed the same day
+            }
+        } else {
+            log = Arrays.copyOf(log, log.length + 1);
+            log[log.length - 1] = entry;
+            history[id] = log;
+        }
+        lastDay = Math.max(lastDay, day);
+    }
+
+    /**
+     * Status code an item had on a day
+     * Input: Item id, epoch day
+     * Output: Code of the last entry on or before the day, or NOT_PRESENT
+     * Control Structure: binary search
+     */
+    private int codeOn(int id, int day) {
+        int[] log = history[id];
+        int low = 0;
+        int high = log.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (log[mid] >> STATUS_BITS <= day) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? NOT_PRESENT : log[found] & NOT_PRESENT;
+    }
+
+    // Status code of the newest entry (NOT_PRESENT for an empty log)
+    private int currentCode(int id) {
+        int[] log = history[id];
+        return log.length == 0 ? NOT_PRESENT : log[log.length - 1] & NOT_PRESENT;
+    }
+
+    // Id of an engine number in the current inventory, or -1
+    private int presentId(String engineNumber) {
+        int id = ids.get(engineNumber);
+        return id == EngineNumberTable.MISSING || currentCode(id) == NOT_PRESENT ? -1 : id;
+    }
+
+    // Day for live changes: today, but never before the loaded history
+    private int today() {
+        int now = (int) LocalDate.now().toEpochDay();
+        return lastDay == InventoryDate.INVALID ? now : Math.max(now, lastDay);
+    }
+
+    // Build a copy of an item with its current status (null status if not present)
+    private InventoryItem item(int id) {
+        int code = currentCode(id);
+        return new InventoryItem(dateTextColumn[id], dateColumn[id],
+                                 labels.decode(labelColumn[id] & 0xFF),
+                                 brands.decode(brandColumn[id] & 0xFF),
+                                 engineColumn[id],
+                                 code == NOT_PRESENT ? null : statuses.decode(code));
+    }
+
+    private void ensureCapacity(int items) {
+        if (items <= dateColumn.length) {
+            return;
+        }
+        int capacity = Math.max(items, dateColumn.length + (dateColumn.length >> 1));
+        engineColumn = Arrays.copyOf(engineColumn, capacity);
+        dateTextColumn = Arrays.copyOf(dateTextColumn, capacity);
+        dateColumn = Arrays.copyOf(dateColumn, capacity);
+        brandColumn = Arrays.copyOf(brandColumn, capacity);
+        labelColumn = Arrays.copyOf(labelColumn, capacity);
+        history = Arrays.copyOf(history, capacity);
+        lastSeenMonth = Arrays.copyOf(lastSeenMonth, capacity);
+    }
+
+    /**
+     * Main method - Load monthly CSVs oldest first and report the inventory
+     * on each month's as-of day (and one engine number's history if given)
+     * A file may name its as-of day: inventory-2023-03.csv@3/31/2023
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java TemporalInventoryStore <month csv>[@M/d/yyyy] ... [engine number]");
+            return;
+        }
+        TemporalInventoryStore store = new TemporalInventoryStore();
+        List<Integer> asOfDays = new ArrayList<>();
+        String engine = null;
+
+        // Control Structure: Every argument that is a file is a month, the last one may be an engine number
+        long start = System.nanoTime();
+        for (String arg : args) {
+            int at = arg.lastIndexOf('@');
+            String path = at < 0 ? arg : arg.substring(0, at);
+            if (!new File(path).isFile()) {
+                engine = arg;
+                continue;
+            }
+            int asOf = at < 0 ? InventoryDate.INVALID : InventoryDate.parse(arg.substring(at + 1));
+            int changes = store.loadMonth(path, asOf);
+            asOfDays.add(store.lastDay);
+            System.out.println(String.format("%-30s as of %-10s %8d items %8d changes",
+                               path, InventoryDate.format(store.lastDay), store.size(), changes));
+        }
+        System.out.println(String.format("%d months, %d engine numbers, %d history entries, loaded in %.1f ms",
+                           store.getMonthsLoaded(), store.itemCount, store.historyEntries(),
+                           (System.nanoTime() - start) / 1e6));
+
+        // Control Structure: On-hand and sold counts as they were on each as-of day
+        start = System.nanoTime();
+        for (int day : asOfDays) {
+            System.out.println(String.format("  %-10s On-hand %8d   Sold %8d", InventoryDate.format(day),
+                               store.countByStatusOn("On-hand", day), store.countByStatusOn("Sold", day)));
+        }
+        System.out.println(String.format("Answered %d point-in-time counts in %.1f ms",
+                           asOfDays.size() * 2, (System.nanoTime() - start) / 1e6));
+
+        if (engine != null) {
+            System.out.println("History of " + engine + ": " + store.historyOf(engine));
+            int sold = store.soldOn(engine);
+            System.out.println(sold == InventoryDate.INVALID ? "Not sold." : "Sold on " + InventoryDate.format(sold));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * ValueDictionary - Assigns small integer codes to repeated String values
+ * Demonstrates: dictionary encoding (store a code per row, the text only once)
+ *
+ * Example: "Honda" -> 0, "Kawasaki" -> 1, ... so a column of brands can be
+ * kept as one byte per item instead of one String reference per item.
+ */
+public class ValueDictionary {
+    // Variables - Code lookup in both directions
+    private HashMap<String, Integer> codes;
+    private ArrayList<String> values;
+    private int maxCodes;
+
+    // Constructor
+    public ValueDictionary(int maxCodes) {
+        this.codes = new HashMap<>();
+        this.values = new ArrayList<>();
+        this.maxCodes = maxCodes;
+    }
+
+    /**
+     * Get the code of a value, adding it if it is new
+     * Input: Value text
+     * Output: Code (0 to maxCodes - 1); IllegalStateException once maxCodes values are taken
+     * Control Structure: if conditions
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+
+        // Control Structure: Known value - reuse its code
+        if (code != null) {
+            return code;
+        }
+
+        // Control Structure: Dictionary full
+        if (values.size() >= maxCodes) {
+            throw new IllegalStateException("More than " + maxCodes + " distinct values: " + value);
+        }
+
+        int newCode = values.size();
+        codes.put(value, newCode);
+        values.add(value);
+        return newCode;
+    }
+
+    /**
+     * Get the code of a value without adding it
+     * Input: Value text (exact match)
+     * Output: Code, or -1 if the value has never been seen
+     */
+    public int find(String value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Mark which codes match a value, ignoring letter case
+     * Input: Value text
+     * Output: matches[code] is true for every case-insensitive match
+     * Control Structure: for loop
+     */
+    public boolean[] matchIgnoreCase(String value) {
+        boolean[] matches = new boolean[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            String known = values.get(i);
+            matches[i] = known != null && known.equalsIgnoreCase(value);  // A null value never matches
+        }
+        return matches;
+    }
+
+    /**
+     * Get the text of a code
+     * Input: Code
+     * Output: Value text
+     */
+    public String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Number of distinct values seen
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ValueIds - Canonical int ids for brand, status and label values, ignoring letter case
+ * Demonstrates: interning, folding letter case once instead of on every compare
+ *
+ * WHY IDS:
+ * - equalsIgnoreCase folds both Strings character by character on every
+ *   call, so a filter over n items folds the same few brand names n times
+ * - An InventoryItem looks up the ids of its brand, status and label once,
+ *   when it is created or changed ("Honda", "HONDA" and "honda" share an id)
+ * - A filter looks up the id of the value it wants once, then each item
+ *   costs one int compare
+ *
+ * Ids are shared by every structure (one registry per program) and never
+ * change. Every distinct spelling is remembered, so this is meant for
+ * low-cardinality values, not engine numbers (see EngineNumberIndex).
+ * Two values share an id exactly when equalsIgnoreCase says they are equal.
+ */
+public final class ValueIds {
+    // Variables - Special ids
+    public static final int NONE = -1;      // Id of a null value
+    public static final int UNKNOWN = -2;   // find() result for a value no item has (matches nothing)
+
+    // Exact spelling -> id (the usual hit, no folding) and folded value -> id
+    private static final ConcurrentHashMap<String, Integer> BY_SPELLING = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Integer> BY_FOLDED = new ConcurrentHashMap<>();
+
+    // Statuses the order processing code checks
+    public static final int ON_HAND = of("On-hand");
+    public static final int SOLD = of("Sold");
+
+    // Utility class - no instances
+    private ValueIds() {
+    }
+
+    /**
+     * Id of a value, giving it a new id if no spelling of it was seen before
+     * Input: Value text (null allowed)
+     * Output: Id (0 and up), or NONE for null
+     */
+    public static int of(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = BY_SPELLING.get(value);
+        return id != null ? id : register(value);
+    }
+
+    /**
+     * Id of a value without registering it (for query arguments)
+     * Input: Value text, any letter case
+     * Output: Id, or UNKNOWN if no item has ever had the value
+     */
+    public static int find(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        Integer id = BY_SPELLING.get(value);
+        if (id == null) {
+            id = BY_FOLDED.get(fold(value));  // New spelling of the query - folded once per query
+        }
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * Fold a character the way equalsIgnoreCase compares it
+     * Input: Character
+     * Output: Lower case of its upper case (ASCII without a lookup)
+     */
+    static char fold(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Fold every character of a value
+     * Control Structure: for loop
+     */
+    static String fold(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(value.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Add a spelling, sharing the id of an earlier spelling of the same value
+     * (synchronized: ids are handed out one at a time)
+     * Control Structure: if conditions
+     */
+    private static synchronized int register(String value) {
+        Integer id = BY_SPELLING.get(value);
+
+        // Control Structure: First time this exact spelling is seen
+        if (id == null) {
+            String folded = fold(value);
+            id = BY_FOLDED.get(folded);
+
+            // Control Structure: First time this value is seen in any case
+            if (id == null) {
+                id = BY_FOLDED.size();
+                BY_FOLDED.put(folded, id);
+            }
+            BY_SPELLING.put(value, id);
+        }
+        return id;
+    }
+}